@@ -0,0 +1,17 @@
+#!/bin/sh
+# Compiles the game together with the benchmarks and checks the allocations per update and per render,
+# both when drawing directly and when recording and replaying a render list,
+# against bench/allocation_budget.properties. Exits with a non-zero status if the budget is exceeded.
+# Usage: bench/run_allocation_gate.sh [--update]
+set -e
+
+# The levels are loaded relative to the project folder
+cd "$(dirname "$0")/.."
+
+OUT_DIR=$(mktemp -d)
+trap 'rm -rf "$OUT_DIR"' EXIT
+
+# The JMH benchmarks are built by bench/pom.xml, only the gate and its scene are compiled here
+javac -d "$OUT_DIR" $(find src -name '*.java') \
+	bench/src/main/java/benchmarks/AllocationGate.java bench/src/main/java/benchmarks/BenchmarkScene.java
+java -Djava.awt.headless=true $JAVA_OPTS -cp "$OUT_DIR:res" benchmarks.AllocationGate "$@"
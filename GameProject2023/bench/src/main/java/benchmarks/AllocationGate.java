@@ -0,0 +1,142 @@
+package benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Properties;
+
+import framework.GameConstants.ScaleConstants;
+import framework.ObjectHandler;
+import framework.RecordingGraphics;
+import framework.RenderList;
+
+public class AllocationGate {
+
+	private static final String BUDGET_FILE = "bench/allocation_budget.properties";
+	private static final String UPDATE_KEY = "updateObjects.bytesPerCall";
+	private static final String RENDER_KEY = "renderObjects.bytesPerCall";
+	private static final String RECORD_KEY = "recordRenderList.bytesPerCall";
+	private static final String REPLAY_KEY = "replayRenderList.bytesPerCall";
+
+	private static final int ENEMY_COUNT = 10;
+	// Enough calls for the hot paths to be compiled, so that escaped allocations are not counted
+	private static final int WARMUP_CALLS = 5000;
+	private static final int MEASURED_CALLS = 2000;
+	// Headroom added to the measured values when the budget is updated
+	private static final double BUDGET_MARGIN = 1.25;
+	private static final long MIN_BUDGET_MARGIN_BYTES = 512;
+
+	private static final com.sun.management.ThreadMXBean threadBean =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	/**
+	 * Measures the average number of bytes allocated by a single update and render on the benchmark scene,
+	 * and compares them against the budget stored in the budget file. Both ways that the game can render are gated:
+	 * drawing the objects directly into an image, and recording them into a render list on the simulation thread
+	 * and then replaying the list into an image on the render thread.
+	 * Exits with a non-zero status if a budget is exceeded, so that it can be used as a build step.
+	 * Must be run from the project folder so that the levels and the budget file can be found.
+	 *
+	 * Usage: AllocationGate [--update]
+	 * With --update, the measured values plus some headroom are written as the new budget instead.
+	 */
+	public static void main(String[] args) throws IOException {
+		System.setProperty("java.awt.headless", "true");
+		boolean updateBudget = args.length > 0 && args[0].equals("--update");
+
+		if (!threadBean.isThreadAllocatedMemorySupported()) {
+			System.err.println("Allocation measurement is not supported by this JVM");
+			System.exit(2);
+		}
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+
+		ObjectHandler objectHandler = BenchmarkScene.create(ENEMY_COUNT);
+		// The game draws into a back buffer of the same size
+		BufferedImage image = new BufferedImage(ScaleConstants.GAME_WIDTH, ScaleConstants.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		RenderList renderList = new RenderList();
+		RecordingGraphics recordingGraphics = new RecordingGraphics();
+
+		long[] bytes = new long[4];
+		for (int i = 0; i < WARMUP_CALLS; i++)
+			measureFrame(objectHandler, image, renderList, recordingGraphics, bytes);
+
+		bytes = new long[4];
+		for (int i = 0; i < MEASURED_CALLS; i++)
+			measureFrame(objectHandler, image, renderList, recordingGraphics, bytes);
+		long updateBytesPerCall = bytes[0] / MEASURED_CALLS;
+		long renderBytesPerCall = bytes[1] / MEASURED_CALLS;
+		long recordBytesPerCall = bytes[2] / MEASURED_CALLS;
+		long replayBytesPerCall = bytes[3] / MEASURED_CALLS;
+
+		if (updateBudget) {
+			Properties budget = new Properties();
+			budget.setProperty(UPDATE_KEY, Long.toString(withMargin(updateBytesPerCall)));
+			budget.setProperty(RENDER_KEY, Long.toString(withMargin(renderBytesPerCall)));
+			budget.setProperty(RECORD_KEY, Long.toString(withMargin(recordBytesPerCall)));
+			budget.setProperty(REPLAY_KEY, Long.toString(withMargin(replayBytesPerCall)));
+			try (FileOutputStream out = new FileOutputStream(BUDGET_FILE)) {
+				budget.store(out, "Maximum average bytes allocated per call on the benchmark scene with "
+						+ ENEMY_COUNT + " enemies.\nUpdated with: bench/run_allocation_gate.sh --update");
+			}
+			System.out.println("Budget written to " + BUDGET_FILE);
+		}
+
+		Properties budget = new Properties();
+		try (FileInputStream in = new FileInputStream(BUDGET_FILE)) {
+			budget.load(in);
+		}
+		boolean passed = check("updateObjects", updateBytesPerCall, Long.parseLong(budget.getProperty(UPDATE_KEY)));
+		passed &= check("renderObjects", renderBytesPerCall, Long.parseLong(budget.getProperty(RENDER_KEY)));
+		passed &= check("recordRenderList", recordBytesPerCall, Long.parseLong(budget.getProperty(RECORD_KEY)));
+		passed &= check("replayRenderList", replayBytesPerCall, Long.parseLong(budget.getProperty(REPLAY_KEY)));
+
+		if (!passed) {
+			System.err.println("Allocation budget exceeded. If the increase is intended, update the budget with --update");
+			System.exit(1);
+		}
+	}
+
+	// Updates the scene once and renders it in both ways, adding the bytes allocated by the update, the direct render,
+	// the recording and the replay to the given totals. Creating the graphics objects is not counted,
+	// since the game creates one per frame regardless of what is drawn.
+	private static void measureFrame(ObjectHandler objectHandler, BufferedImage image, RenderList renderList,
+			RecordingGraphics recordingGraphics, long[] bytes) {
+		long start = threadBean.getCurrentThreadAllocatedBytes();
+		objectHandler.updateObjects();
+		bytes[0] += threadBean.getCurrentThreadAllocatedBytes() - start;
+
+		Graphics2D g = image.createGraphics();
+		start = threadBean.getCurrentThreadAllocatedBytes();
+		objectHandler.renderObjects(g, 0.5f);
+		bytes[1] += threadBean.getCurrentThreadAllocatedBytes() - start;
+		g.dispose();
+
+		start = threadBean.getCurrentThreadAllocatedBytes();
+		renderList.clear();
+		recordingGraphics.reset(renderList);
+		objectHandler.renderObjects(recordingGraphics, 1f);
+		bytes[2] += threadBean.getCurrentThreadAllocatedBytes() - start;
+
+		g = image.createGraphics();
+		start = threadBean.getCurrentThreadAllocatedBytes();
+		renderList.replay(g, 0.5f);
+		bytes[3] += threadBean.getCurrentThreadAllocatedBytes() - start;
+		g.dispose();
+	}
+
+	private static long withMargin(long bytesPerCall) {
+		return Math.max((long) (bytesPerCall * BUDGET_MARGIN), bytesPerCall + MIN_BUDGET_MARGIN_BYTES);
+	}
+
+	private static boolean check(String name, long bytesPerCall, long budgetBytes) {
+		boolean passed = bytesPerCall <= budgetBytes;
+		System.out.printf(Locale.ROOT, "%-15s %10d bytes/call   budget %10d   %s%n", name, bytesPerCall, budgetBytes,
+				passed ? "OK" : "FAILED");
+		return passed;
+	}
+
+}
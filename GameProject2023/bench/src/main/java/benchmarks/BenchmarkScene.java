@@ -0,0 +1,35 @@
+package benchmarks;
+
+import static framework.GameConstants.ScaleConstants.TILE_COLUMNS;
+import static framework.GameConstants.ScaleConstants.TILE_SIZE;
+
+import framework.ObjectHandler;
+import framework.ObjectId.Name;
+import window.KeyInput;
+import window.MouseInput;
+
+public class BenchmarkScene {
+
+	/**
+	 * Creates a new game with the player standing in the starting room, together with the given number
+	 * of enemies spread out over the room. Every second enemy is an archer, the rest are toads.
+	 * The enemies are not part of an enemy wave, so the room exits stay unlocked.
+	 * 
+	 * @param enemyCount the number of enemies to add to the starting room
+	 * @return the ObjectHandler of the new game
+	 */
+	public static ObjectHandler create(int enemyCount) {
+		ObjectHandler objectHandler = new ObjectHandler(new KeyInput(), new MouseInput());
+		objectHandler.setupGame(10);
+		
+		int spawnColumns = TILE_COLUMNS - 6;
+		for (int i = 0; i < enemyCount; i++) {
+			int x = (3 + i % spawnColumns) * TILE_SIZE;
+			int y = (4 + (i / spawnColumns) % 8) * TILE_SIZE;
+			Name enemyName = i % 2 == 0 ? Name.BasicEnemy : Name.ArcherEnemy;
+			objectHandler.addObject(objectHandler.createObjectByName(enemyName, x, y), ObjectHandler.MIDDLE_LAYER);
+		}
+		return objectHandler;
+	}
+	
+}
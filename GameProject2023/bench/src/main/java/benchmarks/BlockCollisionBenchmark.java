@@ -0,0 +1,57 @@
+package benchmarks;
+
+import static framework.GameConstants.ScaleConstants.TILE_SIZE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import framework.ObjectHandler;
+import game_objects.enemies.ToadEnemy;
+
+/**
+ * Measures the block collision of a creature standing on the ground of the starting room.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class BlockCollisionBenchmark {
+
+	// Exposes the block collision of a creature
+	private static class CollisionProbe extends ToadEnemy {
+		CollisionProbe(int x, int y, ObjectHandler objectHandler) {
+			super(x, y, objectHandler);
+		}
+
+		boolean collide() {
+			basicBlockCollision();
+			return falling;
+		}
+	}
+
+	private CollisionProbe probe;
+
+	@Setup
+	public void createProbe() {
+		ObjectHandler scene = BenchmarkScene.create(0);
+		probe = new CollisionProbe(TILE_SIZE * 8, TILE_SIZE * 15, scene);
+	}
+
+	@Benchmark
+	public boolean basicBlockCollision() {
+		return probe.collide();
+	}
+
+}
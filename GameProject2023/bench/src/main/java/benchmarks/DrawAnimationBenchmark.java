@@ -0,0 +1,89 @@
+package benchmarks;
+
+import static framework.GameConstants.ScaleConstants.TILE_SIZE;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import framework.Animation;
+import framework.GameClock;
+import framework.TextureLoader;
+import framework.TextureLoader.TextureName;
+import game_objects.CreatureAnimationManager;
+import game_objects.CreatureAnimationManager.AnimationType;
+
+/**
+ * Measures drawing a creature animation into an offscreen image, as it is drawn normally,
+ * while the creature is flashing after taking damage, and rotated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class DrawAnimationBenchmark {
+
+	private CreatureAnimationManager animationManager;
+	private BufferedImage canvas;
+	private Graphics2D g;
+	private final int size = TILE_SIZE * 2;
+	private double rotationAngle;
+
+	@Setup
+	public void createAnimation() {
+		TextureLoader textureLoader = TextureLoader.getInstance();
+		animationManager = new CreatureAnimationManager();
+		animationManager.addAnimation(AnimationType.Idle, new Animation[] {
+				new Animation(textureLoader.getTexturesByDirection(TextureName.BasicEnemyIdle, 1), 5, false),
+				new Animation(textureLoader.getTexturesByDirection(TextureName.BasicEnemyIdle, -1), 5, false),
+		});
+
+		canvas = new BufferedImage(256, 256, BufferedImage.TYPE_INT_ARGB);
+		g = canvas.createGraphics();
+	}
+
+	@TearDown
+	public void disposeGraphics() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage drawAnimation() {
+		animationManager.runAnimation(AnimationType.Idle);
+		animationManager.drawAnimation(AnimationType.Idle, g, 1, false, 0, 0, size, size);
+		return canvas;
+	}
+
+	// Advancing the clock by the flash duration makes every second call draw the white version
+	@Benchmark
+	public BufferedImage drawAnimationInvulnerable() {
+		GameClock.getInstance().advance(100_000_000L);
+		animationManager.runAnimation(AnimationType.Idle);
+		animationManager.drawAnimation(AnimationType.Idle, g, 1, true, 0, 0, size, size);
+		return canvas;
+	}
+
+	// Turning a little on every call goes through all of the cached angles
+	@Benchmark
+	public BufferedImage drawAnimationRotated() {
+		rotationAngle += 0.05;
+		animationManager.runAnimation(AnimationType.Idle);
+		animationManager.drawAnimation(AnimationType.Idle, g, 1, false, 0, 0, size, size, rotationAngle);
+		return canvas;
+	}
+
+}
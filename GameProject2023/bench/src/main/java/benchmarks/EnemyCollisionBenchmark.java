@@ -0,0 +1,62 @@
+package benchmarks;
+
+import static framework.GameConstants.ScaleConstants.TILE_SIZE;
+
+import java.awt.Rectangle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import framework.ObjectHandler;
+import player_weapons.FistWeapon;
+
+/**
+ * Measures the enemy collision check that all weapons use, with a growing number of enemies in the room.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class EnemyCollisionBenchmark {
+
+	// Exposes the enemy collision check of a weapon
+	private static class WeaponProbe extends FistWeapon {
+		WeaponProbe(ObjectHandler objectHandler) {
+			super(objectHandler, null, null);
+		}
+
+		void checkCollision(Rectangle attackBounds) {
+			checkEnemyCollision(attackBounds, null, 0, 0, 0, 0);
+		}
+	}
+
+	@Param({"0", "10", "50"})
+	public int enemyCount;
+
+	private WeaponProbe probe;
+	// An attack that doesn't reach any enemy, so the enemies stay alive
+	private final Rectangle attackBounds = new Rectangle(0, 0, TILE_SIZE, TILE_SIZE);
+
+	@Setup
+	public void createProbe() {
+		probe = new WeaponProbe(BenchmarkScene.create(enemyCount));
+	}
+
+	@Benchmark
+	public void checkEnemyCollision() {
+		probe.checkCollision(attackBounds);
+	}
+
+}
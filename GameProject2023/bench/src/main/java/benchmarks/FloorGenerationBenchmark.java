@@ -0,0 +1,56 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import floor_generation.Floor;
+import framework.ObjectHandler;
+
+/**
+ * Measures generating a random floor with a growing number of rooms.
+ * Every call generates into a new Floor, which is created outside of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class FloorGenerationBenchmark {
+
+	@Param({"10", "100", "1000"})
+	public int floorSize;
+
+	private ObjectHandler objectHandler;
+	private Floor floor;
+
+	@Setup
+	public void createObjectHandler() {
+		objectHandler = BenchmarkScene.create(0);
+	}
+
+	// Floors are large enough that the cost of an invocation level setup doesn't matter
+	@Setup(Level.Invocation)
+	public void createFloor() {
+		floor = new Floor(objectHandler);
+	}
+
+	@Benchmark
+	public Floor generateRandomFloor() {
+		floor.generateRandomFloor(floorSize);
+		return floor;
+	}
+
+}
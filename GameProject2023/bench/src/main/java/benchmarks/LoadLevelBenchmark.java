@@ -0,0 +1,41 @@
+package benchmarks;
+
+import java.io.EOFException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import framework.FileIO;
+
+/**
+ * Measures reading a single level from the levels file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class LoadLevelBenchmark {
+
+	// One value for every level in levels/levels.txt
+	@Param({"0", "1", "2"})
+	public int levelIndex;
+
+	private final FileIO fileIO = new FileIO();
+
+	@Benchmark
+	public int[][] loadLevel() throws EOFException {
+		return fileIO.loadLevel("levels/levels.txt", levelIndex);
+	}
+
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import framework.TextureLoader;
+import framework.TextureLoader.TextureName;
+
+/**
+ * Measures looking up the textures of every TextureName.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class TextureLoaderBenchmark {
+
+	// Every TextureName is used when no values are given
+	@Param
+	public TextureName textureName;
+
+	private TextureLoader textureLoader;
+
+	@Setup
+	public void loadTextures() {
+		textureLoader = TextureLoader.getInstance();
+	}
+
+	@Benchmark
+	public BufferedImage[] getTextures() {
+		return textureLoader.getTextures(textureName);
+	}
+
+}
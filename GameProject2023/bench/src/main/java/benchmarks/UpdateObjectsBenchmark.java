@@ -0,0 +1,47 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import framework.ObjectHandler;
+
+/**
+ * Measures a single update of every object in the starting room, with a growing number of enemies.
+ * A new scene is created before every iteration, so that the enemies don't drift too far from their start.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class UpdateObjectsBenchmark {
+
+	@Param({"0", "10", "50"})
+	public int enemyCount;
+
+	private ObjectHandler scene;
+
+	@Setup(Level.Iteration)
+	public void createScene() {
+		scene = BenchmarkScene.create(enemyCount);
+	}
+
+	@Benchmark
+	public void updateObjects() {
+		scene.updateObjects();
+	}
+
+}
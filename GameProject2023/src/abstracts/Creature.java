@@ -8,10 +8,10 @@ import framework.DurationTracker;
 import framework.GameConstants;
 import framework.ObjectHandler;
 import framework.ObjectId;
-import framework.ObjectId.Category;
 import framework.ObjectId.Name;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
+import framework.TileMap;
 import game_objects.CreatureAnimationManager;
 import game_objects.CreatureAnimationManager.AnimationType;
 import ui.CreatureHealthBar;
@@ -27,6 +27,8 @@ public abstract class Creature extends GameObject {
 	// 1 for right, -1 for left
 	protected int direction = 1;
 	protected float velX, velY;
+	// The position before the latest update, used to interpolate between updates while rendering
+	protected float prevX, prevY;
 
 	protected int damage;
 	protected int maxHealth;
@@ -39,6 +41,14 @@ public abstract class Creature extends GameObject {
 	protected CreatureHealthBar healthBar;
 	protected Animation spawnAnimation;
 
+	// Reused by the bound methods so that collision checks don't allocate, should not be stored by callers
+	private final Rectangle horizontalBounds = new Rectangle();
+	private final Rectangle topBounds = new Rectangle();
+	private final Rectangle bottomBounds = new Rectangle();
+	private final Rectangle groundAttackBounds = new Rectangle();
+	private final Rectangle groundCheckBounds = new Rectangle();
+	private final Rectangle collisionSearchArea = new Rectangle();
+
 	/**
 	 * The creature class is a base for all objects that can move, attack and be killed.
 	 * @param x				The x coordinate of the creature.
@@ -53,6 +63,8 @@ public abstract class Creature extends GameObject {
 	public Creature(int x, int y, int width, int height, int damage, int maxHealth, ObjectHandler objectHandler, ObjectId objectId) {
 		super(x, y, width, height, objectId);
 		this.objectHandler = objectHandler; 
+		prevX = x;
+		prevY = y;
 		this.damage = damage;
 		health = this.maxHealth = maxHealth;
 
@@ -95,12 +107,17 @@ public abstract class Creature extends GameObject {
 	public abstract void setupHealthBar();
 	
 	public void die() {
+		// A creature can be hit again before it is removed at the end of the update
+		if (dead)
+			return;
 		dead = true;
 		objectHandler.removeObject(this);
 		dropCoins();
 	}
 	
 	public void die(boolean removeObject) {
+		if (dead)
+			return;
 		dead = true;
 		if (removeObject)
 			objectHandler.removeObject(this);
@@ -119,20 +136,19 @@ public abstract class Creature extends GameObject {
 	protected void basicBlockCollision() {
 		falling = true;
 
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
+		TileMap tileMap = objectHandler.getTileMap();
+		List<Rectangle> nearbyTiles = tileMap.queryRect(getCollisionSearchArea(), TileMap.SOLID | TileMap.ONE_WAY);
+		for (int i = nearbyTiles.size() - 1; i >= 0; i--) {
+			Rectangle otherBounds = nearbyTiles.get(i);
 
 			// Collision with Blocks
-			if (other.compareCategory(Category.Block)) {
-				Rectangle otherBounds = other.getBounds();
-
+			if (tileMap.getTileAt(otherBounds.x, otherBounds.y) == TileMap.SOLID) {
 				if (getGroundCheckBounds().intersects(otherBounds))
 					falling = false;
 
 				// Bottom collision
 				if (getBottomBounds().intersects(otherBounds)) {
-					y = other.getY() - height;
+					y = otherBounds.y - height;
 					velY = 0;
 					jumping = false;
 
@@ -145,31 +161,29 @@ public abstract class Creature extends GameObject {
 
 				// Horizontal collision
 				if (getHorizontalBounds().intersects(otherBounds)) {
-					int xDiff = (int) (x - other.getX());
+					int xDiff = (int) (x - otherBounds.x);
 					// Player is to the left of the object
 					if (xDiff < 0)
-						x = other.getX() - getHorizontalBounds().width;
+						x = otherBounds.x - getHorizontalBounds().width;
 					// Player is to the right of the object
 					else
-						x = other.getX() + other.getWidth();
+						x = otherBounds.x + otherBounds.width;
 				}
 
 				// Top collision
 				if (getTopBounds().intersects(otherBounds)) {
-					y = other.getY() + other.getHeight();
+					y = otherBounds.y + otherBounds.height;
 					velY = 0;
 				}
 			}
 			// Collision with Jump Through Blocks
-			else if (other.compareCategory(Category.JumpThroughBlock) && getVelY() >= 0) {
-				Rectangle otherBounds = other.getBounds();
-
+			else if (getVelY() >= 0) {
 				if (getGroundCheckBounds().intersects(otherBounds))
 					falling = false;
 
 				// Bottom collision
 				if (getBottomBounds().intersects(otherBounds)) {
-					y = other.getY() - height;
+					y = otherBounds.y - height;
 					velY = 0;
 					jumping = false;
 
@@ -183,17 +197,32 @@ public abstract class Creature extends GameObject {
 		}
 	}
 
+	/**
+	 * Returns an area around the creature that contains all of its collision bounds for this update,
+	 * even after it has been pushed out of a block. Used to find the nearby objects in the spatial hash grid.
+	 * The same Rectangle is reused by every call, so it should not be stored by the caller.
+	 * @return the area around the creature
+	 */
+	protected Rectangle getCollisionSearchArea() {
+		int marginX = width + (int) Math.ceil(Math.abs(velX));
+		int marginY = height + (int) Math.ceil(Math.abs(velY));
+		collisionSearchArea.setBounds((int) x - marginX, (int) y - marginY, width + 2 * marginX, height + 2 * marginY);
+		return collisionSearchArea;
+	}
+
 	protected Rectangle getHorizontalBounds() {
 		float height = 3 * this.height / 5f;
 		float yOffset = this.height / 5f; 
-		return new Rectangle((int) (x + velX), (int) (y + yOffset), width, (int) height);
+		horizontalBounds.setBounds((int) (x + velX), (int) (y + yOffset), width, (int) height);
+		return horizontalBounds;
 	}
 
 	protected Rectangle getTopBounds() {
 		float width = 3 * this.width / 5f;
 		float xOffset = (this.width - width) / 2;
 		float height = this.height / 5f;
-		return new Rectangle((int) (x + xOffset), (int) y, (int) width, (int) height);
+		topBounds.setBounds((int) (x + xOffset), (int) y, (int) width, (int) height);
+		return topBounds;
 	}
 
 	protected Rectangle getBottomBounds() {
@@ -201,7 +230,8 @@ public abstract class Creature extends GameObject {
 		float xOffset = (this.width - width) / 2;
 		float height = this.height / 5f;
 		float yOffset = 4 * this.height / 5f;
-		return new Rectangle((int) (x + xOffset), (int) (y + yOffset), (int) width, (int) height);
+		bottomBounds.setBounds((int) (x + xOffset), (int) (y + yOffset), (int) width, (int) height);
+		return bottomBounds;
 	}
 
 	protected Rectangle getGroundAttackBounds() {
@@ -211,7 +241,8 @@ public abstract class Creature extends GameObject {
 			attackX = (int) (x + width / 2);
 		else
 			attackX = (int) (x + width / 2 - attackWidth);
-		return new Rectangle(attackX, (int) y, attackWidth, height);
+		groundAttackBounds.setBounds(attackX, (int) y, attackWidth, height);
+		return groundAttackBounds;
 	}
 
 	protected Rectangle getGroundCheckBounds() {
@@ -219,7 +250,50 @@ public abstract class Creature extends GameObject {
 		float xOffset = (this.width - width) / 2;
 		float height = this.height / 5f;
 		float yOffset = this.height;
-		return new Rectangle((int) (x + xOffset), (int) (y + yOffset), (int) width, (int) height);
+		groundCheckBounds.setBounds((int) (x + xOffset), (int) (y + yOffset), (int) width, (int) height);
+		return groundCheckBounds;
+	}
+
+	/**
+	 * Stores the current position as the previous position.
+	 * This is called before every update, and also after the creature is moved to a new location
+	 * to prevent it from being interpolated between the two locations.
+	 */
+	public void savePreviousPosition() {
+		prevX = x;
+		prevY = y;
+	}
+	
+	/**
+	 * Returns the x coordinate that this creature should be drawn at, 
+	 * interpolated between the previous and the current update.
+	 * @return The interpolated x coordinate.
+	 */
+	public float getRenderX() {
+		return prevX + (x - prevX) * objectHandler.getInterpolation();
+	}
+	
+	/**
+	 * Returns the y coordinate that this creature should be drawn at, 
+	 * interpolated between the previous and the current update.
+	 * @return The interpolated y coordinate.
+	 */
+	public float getRenderY() {
+		return prevY + (y - prevY) * objectHandler.getInterpolation();
+	}
+
+	/**
+	 * @return how far this creature moved on the x axis between the previous and the current update
+	 */
+	public float getMotionX() {
+		return x - prevX;
+	}
+	
+	/**
+	 * @return how far this creature moved on the y axis between the previous and the current update
+	 */
+	public float getMotionY() {
+		return y - prevY;
 	}
 
 	public int getMaxHealth() {
@@ -266,6 +340,13 @@ public abstract class Creature extends GameObject {
 		return invulnerable;
 	}
 
+	/**
+	 * @return true if this creature died, even if it hasn't been removed from its layer yet
+	 */
+	public boolean isDead() {
+		return dead;
+	}
+
 	public void setInvulnerable(boolean invulnerable) {
 		this.invulnerable = invulnerable;
 	}
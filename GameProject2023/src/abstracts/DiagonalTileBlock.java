@@ -78,4 +78,9 @@ public abstract class DiagonalTileBlock extends GameObject {
 		return diagonalDirection;
 	}
 	
+	@Override
+	public boolean isStatic() {
+		return true;
+	}
+	
 }
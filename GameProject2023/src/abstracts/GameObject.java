@@ -6,6 +6,7 @@ import java.awt.image.BufferedImage;
 
 import framework.ObjectId;
 import framework.ObjectId.Category;
+import framework.ObjectPool;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
 
@@ -19,6 +20,14 @@ public abstract class GameObject {
 	protected int width, height;
 	protected ObjectId objectId;
 	protected BufferedImage texture;
+	// Reused by getBounds so that collision checks don't create a new Rectangle for every test
+	protected final Rectangle bounds = new Rectangle();
+	// The position of this object in the list of its layer, so that it can be removed without searching the list
+	private int layerIndex = -1;
+	// The position of this object in the category index of its room's middle layer
+	private int categoryIndex = -1;
+	// The pool that this object is returned to when it is removed, or null if it is not pooled
+	private ObjectPool<?> pool;
 	
 	public GameObject(float x, float y, int width, int height, ObjectId objectId) {
 		this.x = x;
@@ -39,8 +48,24 @@ public abstract class GameObject {
 	 */
 	public abstract void render(Graphics g);
 
+	/**
+	 * Returns the bounds of this object. The same Rectangle is reused by every call,
+	 * so it should not be stored or modified by the caller.
+	 * @return The bounds of this object.
+	 */
 	public Rectangle getBounds() {
-		return new Rectangle((int) x, (int) y, width, height);
+		bounds.setBounds((int) x, (int) y, width, height);
+		return bounds;
+	}
+	
+	/**
+	 * Returns true if this object is always drawn the same way at the same location.
+	 * Static objects are drawn once into the cached image of their room's layer instead of every frame,
+	 * and the room must be told with {@code invalidateStaticLayers} if their appearance changes.
+	 * @return True if the object is static, false otherwise.
+	 */
+	public boolean isStatic() {
+		return false;
 	}
 	
 	/**
@@ -101,4 +126,28 @@ public abstract class GameObject {
 		return objectId;
 	}
 	
-}
\ No newline at end of file
+	public int getLayerIndex() {
+		return layerIndex;
+	}
+	
+	public void setLayerIndex(int layerIndex) {
+		this.layerIndex = layerIndex;
+	}
+	
+	public int getCategoryIndex() {
+		return categoryIndex;
+	}
+	
+	public void setCategoryIndex(int categoryIndex) {
+		this.categoryIndex = categoryIndex;
+	}
+	
+	public ObjectPool<?> getPool() {
+		return pool;
+	}
+	
+	public void setPool(ObjectPool<?> pool) {
+		this.pool = pool;
+	}
+
+}
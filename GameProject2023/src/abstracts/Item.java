@@ -14,6 +14,7 @@ import framework.ObjectId;
 import framework.ObjectId.Category;
 import framework.ObjectId.Name;
 import framework.TextureLoader.TextureName;
+import framework.TileMap;
 import ui.Inventory;
 import visual_effects.OneTimeAnimation;
 
@@ -26,6 +27,12 @@ public abstract class Item extends GameObject {
 	protected float velX;
 	protected float velY = -3f;
 
+	// Reused by the bound methods so that collision checks don't allocate
+	private final Rectangle bottomBounds = new Rectangle();
+	private final Rectangle horizontalBounds = new Rectangle();
+	private final Rectangle groundCheckBounds = new Rectangle();
+	private final Rectangle collisionSearchArea = new Rectangle();
+
 	public Item(float x, float y, ObjectHandler objectHandler, Name objectName) {
 		super(x, y, 4 * TILE_SIZE / 5, 4 * TILE_SIZE / 5, new ObjectId(Category.Item, objectName));
 		this.objectHandler = objectHandler;
@@ -107,35 +114,33 @@ public abstract class Item extends GameObject {
 	private void checkCollision() {
 		falling = true;
 		
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
-			if (other.equals(this))
-				continue;
+		TileMap tileMap = objectHandler.getTileMap();
+		List<Rectangle> nearbyTiles = tileMap.queryRect(getCollisionSearchArea(), TileMap.SOLID | TileMap.ONE_WAY);
+		for (int i = nearbyTiles.size() - 1; i >= 0; i--) {
+			Rectangle otherBounds = nearbyTiles.get(i);
 			
-			if (other.compareCategory(Category.Block)) {
-				if (getGroundCheckBounds().intersects(other.getBounds()))
+			if (tileMap.getTileAt(otherBounds.x, otherBounds.y) == TileMap.SOLID) {
+				if (getGroundCheckBounds().intersects(otherBounds))
 					falling = false;
 				
-				if (getBottomBounds().intersects(other.getBounds())) {
-					y = other.getY() - height;
+				if (getBottomBounds().intersects(otherBounds)) {
+					y = otherBounds.y - height;
 					velX = velY = 0;
 				}
-				if (getHorizontalBounds().intersects(other.getBounds())) {
+				if (getHorizontalBounds().intersects(otherBounds)) {
 					velX = 0;
-					if (x < other.getX())
-						x = other.getX() - width;
+					if (x < otherBounds.x)
+						x = otherBounds.x - width;
 					else
-						x = other.getX() + other.getWidth(); 
+						x = otherBounds.x + otherBounds.width; 
 				}
 			}
-			
-			if (other.compareCategory(Category.JumpThroughBlock)) {
-				if (getGroundCheckBounds().intersects(other.getBounds()))
+			else {
+				if (getGroundCheckBounds().intersects(otherBounds))
 					falling = false;
 				
-				if (getBottomBounds().intersects(other.getBounds())) {
-					y = other.getY() - height;
+				if (getBottomBounds().intersects(otherBounds)) {
+					y = otherBounds.y - height;
 					velX = velY = 0;
 				}
 			}
@@ -146,8 +151,8 @@ public abstract class Item extends GameObject {
 	public Rectangle getBounds() {
 		if (velY == 0)
 			return super.getBounds();
-		else
-			return new Rectangle(0, 0, 0, 0);
+		bounds.setBounds(0, 0, 0, 0);
+		return bounds;
 	}
 	
 	private Rectangle getBottomBounds() {
@@ -155,13 +160,23 @@ public abstract class Item extends GameObject {
 		float xOffset = (this.width - width) / 2;
 		float height = this.height / 5f;
 		float yOffset = 4 * this.height / 5f;
-		return new Rectangle((int) (x + xOffset), (int) (y + yOffset + velY), (int) width, (int) height);
+		bottomBounds.setBounds((int) (x + xOffset), (int) (y + yOffset + velY), (int) width, (int) height);
+		return bottomBounds;
+	}
+	
+	// Contains the collision bounds of the item for this update, used to find the nearby blocks
+	private Rectangle getCollisionSearchArea() {
+		int marginX = width + (int) Math.ceil(Math.abs(velX));
+		int marginY = height + (int) Math.ceil(Math.abs(velY));
+		collisionSearchArea.setBounds((int) x - marginX, (int) y - marginY, width + 2 * marginX, height + 2 * marginY);
+		return collisionSearchArea;
 	}
 	
 	protected Rectangle getHorizontalBounds() {
 		float height = 3 * this.height / 5f;
 		float yOffset = this.height / 5f; 
-		return new Rectangle((int) (x + velX), (int) (y + yOffset), width, (int) height);
+		horizontalBounds.setBounds((int) (x + velX), (int) (y + yOffset), width, (int) height);
+		return horizontalBounds;
 	}
 	
 	protected Rectangle getGroundCheckBounds() {
@@ -169,12 +184,17 @@ public abstract class Item extends GameObject {
 		float xOffset = (this.width - width) / 2;
 		float height = this.height / 5f;
 		float yOffset = this.height;
-		return new Rectangle((int) (x + xOffset), (int) (y + yOffset), (int) width, (int) height);
+		groundCheckBounds.setBounds((int) (x + xOffset), (int) (y + yOffset), (int) width, (int) height);
+		return groundCheckBounds;
+	}
+	
+	protected void setFalling(boolean falling) {
+		this.falling = falling;
 	}
 	
 	protected void playPickupAnimation() {
-		OneTimeAnimation sparkleAnimation = new OneTimeAnimation(x - width / 2, y - width / 2, width * 2, height * 2,
-				TextureName.SparkleEffect, 6, objectHandler);
+		OneTimeAnimation sparkleAnimation = objectHandler.getObjectPools().obtainOneTimeAnimation(x - width / 2, y - width / 2,
+				width * 2, height * 2, TextureName.SparkleEffect, 6);
 		objectHandler.addObject(sparkleAnimation, ObjectHandler.MIDDLE_LAYER);
 	}
 
@@ -39,7 +39,13 @@ public abstract class JumpThroughTileBlock extends GameObject {
 	
 	@Override
 	public Rectangle getBounds() {
-		return new Rectangle((int) x, (int) y, width, height / 3);
+		bounds.setBounds((int) x, (int) y, width, height / 3);
+		return bounds;
+	}
+	
+	@Override
+	public boolean isStatic() {
+		return true;
 	}
 
 }
@@ -16,4 +16,9 @@ public abstract class TileBlock extends GameObject {
 		return tileSet[orientation.getValue()];
 	}
 	
+	@Override
+	public boolean isStatic() {
+		return true;
+	}
+	
 }
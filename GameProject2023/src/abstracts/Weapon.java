@@ -3,6 +3,7 @@ package abstracts;
 import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 
@@ -24,6 +25,8 @@ public abstract class Weapon extends GameObject {
 	protected Animation[] runAnimation = new Animation[2];
 	protected BufferedImage[] jumpSprites;
 	
+	private final List<GameObject> nearbyEnemies = new ArrayList<>();
+	
 	public Weapon(ObjectHandler objectHandler, KeyInput keyInput, MouseInput mouseInput) {
 		super(0, 0, 0, 0, new ObjectId(Category.Missing, Name.Missing));
 		this.objectHandler = objectHandler;
@@ -58,14 +61,16 @@ public abstract class Weapon extends GameObject {
 	
 	protected void checkEnemyCollision(Rectangle attackBounds, HashSet<GameObject> enemiesHit, int damage, float knockbackVelX,
 			float knockbackVelY, int enemyInvulnerabilityDuration) {
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
+		// Damaging an enemy can cause other queries, so the result is kept in a separate list
+		List<GameObject> nearbyEnemies = objectHandler.getSpatialGrid().queryRect(attackBounds, Category.Enemy, this.nearbyEnemies);
+		for (int i = nearbyEnemies.size() - 1; i >= 0; i--) {
+			GameObject other = nearbyEnemies.get(i);
 
 			if (enemiesHit != null && enemiesHit.contains(other))
 				continue;
 
-			if (other.compareCategory(Category.Enemy)) {
+			// Enemies that died during this update are only removed after it
+			if (other.compareCategory(Category.Enemy) && !((Creature) other).isDead()) {
 				if (attackBounds.intersects(other.getBounds())) {
 					Creature otherCreature = (Creature) other;
 					if (knockbackVelX != 0 || knockbackVelY != 0)
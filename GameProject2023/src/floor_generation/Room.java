@@ -1,11 +1,16 @@
 package floor_generation;
 
+import static framework.GameConstants.ScaleConstants.TILE_SIZE;
+
 import java.util.ArrayList;
 import java.util.List;
 
 import abstracts.Creature;
 import abstracts.GameObject;
 import framework.ObjectHandler;
+import framework.SpatialHashGrid;
+import framework.StaticLayerCache;
+import framework.TileMap;
 import framework.ObjectId.Category;
 import framework.ObjectId.Name;
 
@@ -15,6 +20,11 @@ public class Room {
 	private int[][] bottomLayerUIDs, middleLayerUIDs, topLayerUIDs;
 	private int[][][] enemyWavesUIDs;
 	private List<GameObject> bottomLayer, middleLayer, topLayer;
+	// The objects of the middle layer grouped by their category, indexed by the ordinal of the category
+	private List<List<GameObject>> middleLayerByCategory;
+	// The tiles of the middle layer are not updated, they are only drawn into the static layer cache
+	private List<GameObject> tileObjects;
+	private TileMap tileMap;
 	
 	private List<List<Creature>> enemyWaves;
 	private int currentWave = -1;
@@ -25,6 +35,10 @@ public class Room {
 	private List<RoomExit> roomExits;
 	private boolean[] hasRoomExit;
 	private PlayerExitDestination[] playerExitDestinations;
+	
+	private int width, height;
+	private StaticLayerCache staticLayerCache;
+	private SpatialHashGrid spatialGrid;
 
 	/**
 	 * The Room class represent the vertices of the Floor graph.
@@ -43,37 +57,131 @@ public class Room {
 		this.topLayerUIDs = topLayerUIDs;
 		this.enemyWavesUIDs = enemyWavesUIDs;
 		this.objectHandler = objectHandler;
+		// Rooms are as large as their level arrays, which can be larger than the screen
+		width = bottomLayerUIDs[0].length * TILE_SIZE;
+		height = bottomLayerUIDs.length * TILE_SIZE;
+		staticLayerCache = new StaticLayerCache(3, width, height);
 
 		List<List<GameObject>> layers = objectHandler.loadLevel(bottomLayerUIDs, middleLayerUIDs, topLayerUIDs);
 		bottomLayer = layers.get(0);
 		middleLayer = layers.get(1);
 		topLayer = layers.get(2);
+		tileObjects = new ArrayList<>();
+		tileMap = new TileMap(bottomLayerUIDs[0].length, bottomLayerUIDs.length, TILE_SIZE);
+		extractTiles();
+		spatialGrid = new SpatialHashGrid(width, height, TILE_SIZE);
+		middleLayerByCategory = new ArrayList<>(Category.values().length);
+		for (int i = 0; i < Category.values().length; i++)
+			middleLayerByCategory.add(new ArrayList<>());
+		for (int i = 0; i < middleLayer.size(); i++)
+			addToIndexes(middleLayer.get(i));
+		ObjectHandler.updateLayerIndexes(bottomLayer);
+		ObjectHandler.updateLayerIndexes(middleLayer);
+		ObjectHandler.updateLayerIndexes(topLayer);
 		enemyWaves = objectHandler.loadEnemyWaves(enemyWavesUIDs[0], enemyWavesUIDs[1], enemyWavesUIDs[2]);
 		
 		neighbors = new Room[4];
 		hasRoomExit = new boolean[4];
 		roomExits = new ArrayList<>(4);
 		playerExitDestinations = new PlayerExitDestination[4];
-		findExits(middleLayer);
+		findExits();
+	}
+
+	// Moves the tiles of the middle layer into the tile map, keeping the rest of the objects in their original order
+	private void extractTiles() {
+		List<GameObject> remainingObjects = new ArrayList<>(middleLayer.size());
+		for (int i = 0; i < middleLayer.size(); i++) {
+			GameObject gameObject = middleLayer.get(i);
+			if (getTileFlags(gameObject) != TileMap.EMPTY)
+				addTile(gameObject);
+			else
+				remainingObjects.add(gameObject);
+		}
+		middleLayer.clear();
+		middleLayer.addAll(remainingObjects);
+	}
+	
+	private void addTile(GameObject tile) {
+		tileObjects.add(tile);
+		tileMap.setTile((int) tile.getX() / TILE_SIZE, (int) tile.getY() / TILE_SIZE, getTileFlags(tile));
+	}
+	
+	private byte getTileFlags(GameObject gameObject) {
+		if (!gameObject.isStatic())
+			return TileMap.EMPTY;
+		if (gameObject.compareCategory(Category.Block))
+			return TileMap.SOLID;
+		if (gameObject.compareCategory(Category.JumpThroughBlock))
+			return TileMap.ONE_WAY;
+		return TileMap.EMPTY;
+	}
+
+	/**
+	 * Adds an object to the middle layer, together with the grid and the category index of the layer.
+	 * @param object the object to add
+	 */
+	public void addToMiddleLayer(GameObject object) {
+		ObjectHandler.addToLayer(middleLayer, object);
+		addToIndexes(object);
+	}
+	
+	/**
+	 * Removes an object from the middle layer, together with the grid and the category index of the layer.
+	 * @param object the object to remove
+	 * @return true if the object was in the middle layer, false otherwise
+	 */
+	public boolean removeFromMiddleLayer(GameObject object) {
+		if (!ObjectHandler.removeFromLayer(middleLayer, object))
+			return false;
+		spatialGrid.remove(object);
+		if (object.getObjectId() != null)
+			removeFromCategoryIndex(middleLayerByCategory.get(object.getObjectId().getCategory().ordinal()), object);
+		return true;
+	}
+	
+	private void addToIndexes(GameObject object) {
+		spatialGrid.insert(object);
+		if (object != null && object.getObjectId() != null) {
+			List<GameObject> categoryObjects = middleLayerByCategory.get(object.getObjectId().getCategory().ordinal());
+			object.setCategoryIndex(categoryObjects.size());
+			categoryObjects.add(object);
+		}
+	}
+	
+	// Like ObjectHandler.removeFromLayer, moves the last object of the category into the place of the removed one
+	private void removeFromCategoryIndex(List<GameObject> categoryObjects, GameObject object) {
+		int index = object.getCategoryIndex();
+		if (index < 0 || index >= categoryObjects.size() || categoryObjects.get(index) != object)
+			return;
+		
+		GameObject lastObject = categoryObjects.remove(categoryObjects.size() - 1);
+		if (lastObject != object) {
+			categoryObjects.set(index, lastObject);
+			lastObject.setCategoryIndex(index);
+		}
+		object.setCategoryIndex(-1);
 	}
 
 	// Search the objects in the middle layer to determine the room's
 	// exit directions and player exit destinations.
-	private void findExits(List<GameObject> middleLayer) {
-		for (int i = middleLayer.size() - 1; i >= 0; i--) {
-			GameObject gameObject = middleLayer.get(i);
-			Name objectName = gameObject.getObjectId().getName();
-			int directionIndex = RoomDirection.convertNameToDirection(objectName).getValue();
-			
+	private void findExits() {
+		List<GameObject> exits = getMiddleLayer(Category.RoomExit);
+		for (int i = exits.size() - 1; i >= 0; i--) {
+			GameObject gameObject = exits.get(i);
+			int directionIndex = RoomDirection.convertNameToDirection(gameObject.getObjectId().getName()).getValue();
 			if (directionIndex == -1)
 				continue;
-			
-			if (gameObject.compareCategory(Category.RoomExit)) {
-				hasRoomExit[directionIndex] = true;
-				roomExits.add((RoomExit) gameObject);
-			}
-			else if (gameObject.compareCategory(Category.PlayerExitDestination))
-				playerExitDestinations[directionIndex] = (PlayerExitDestination) gameObject;
+			hasRoomExit[directionIndex] = true;
+			roomExits.add((RoomExit) gameObject);
+		}
+		
+		List<GameObject> exitDestinations = getMiddleLayer(Category.PlayerExitDestination);
+		for (int i = exitDestinations.size() - 1; i >= 0; i--) {
+			GameObject gameObject = exitDestinations.get(i);
+			int directionIndex = RoomDirection.convertNameToDirection(gameObject.getObjectId().getName()).getValue();
+			if (directionIndex == -1)
+				continue;
+			playerExitDestinations[directionIndex] = (PlayerExitDestination) gameObject;
 		}
 	}
 
@@ -98,24 +206,24 @@ public class Room {
 
 	public void disableUnusedExits() {
 		List<RoomDirection> unusedExitLocations = getAvailableExitDirections();
-		for (int i = middleLayer.size() - 1; i >= 0; i--) {
-			GameObject gameObject = middleLayer.get(i);
+		List<GameObject> exits = getMiddleLayer(Category.RoomExit);
+		for (int i = exits.size() - 1; i >= 0; i--) {
+			GameObject gameObject = exits.get(i);
 			Name objectName = gameObject.getObjectId().getName();
-			if (gameObject.compareCategory(Category.RoomExit)) {
-				for (int j = unusedExitLocations.size() - 1; j >= 0; j--) {
-					RoomDirection locationFromName = RoomDirection.convertNameToDirection(objectName);
-					if (locationFromName == unusedExitLocations.get(j)) {
-						// TODO implement a better way of removing exits which is visually appealing
-						middleLayer.remove(i);
-						GameObject disabledExitPlaceholder = 
-								objectHandler.createObjectByName(Name.GrassBackgroundTileBlock_Center,
-										(int) gameObject.getX(),
-										(int) gameObject.getY());
-						middleLayer.add(disabledExitPlaceholder);
-					}
+			for (int j = unusedExitLocations.size() - 1; j >= 0; j--) {
+				RoomDirection locationFromName = RoomDirection.convertNameToDirection(objectName);
+				if (locationFromName == unusedExitLocations.get(j)) {
+					// TODO implement a better way of removing exits which is visually appealing
+					removeFromMiddleLayer(gameObject);
+					GameObject disabledExitPlaceholder = 
+							objectHandler.createObjectByName(Name.GrassBackgroundTileBlock_Center,
+									(int) gameObject.getX(),
+									(int) gameObject.getY());
+					addTile(disabledExitPlaceholder);
 				}
 			}
 		}
+		staticLayerCache.invalidate();
 	}
 
 	/**
@@ -156,12 +264,14 @@ public class Room {
 		areExistsLocked = true;
 		for (RoomExit roomExit : roomExits)
 			roomExit.setLocked(true);
+		staticLayerCache.invalidate();
 	}
 	
 	public void unlockExits() {
 		areExistsLocked = false;
 		for (RoomExit roomExit : roomExits)
 			roomExit.setLocked(false);
+		staticLayerCache.invalidate();
 	}
 	
 	public boolean areExitsLocked() {
@@ -219,6 +329,47 @@ public class Room {
 	           enemyWaves.get(currentWave).isEmpty();
 	}
 	
+	/**
+	 * Returns the cached images of the static objects in this room's layers.
+	 * @return the static layer cache
+	 */
+	public StaticLayerCache getStaticLayerCache() {
+		return staticLayerCache;
+	}
+	
+	/**
+	 * Returns the collision flags of the tiles in this room's middle layer.
+	 * @return the tile map of the middle layer
+	 */
+	public TileMap getTileMap() {
+		return tileMap;
+	}
+	
+	/**
+	 * Returns the tiles of the middle layer. They are not part of the middle layer's objects,
+	 * and are only used for drawing.
+	 * @return the tile objects of the middle layer
+	 */
+	public List<GameObject> getTileObjects() {
+		return tileObjects;
+	}
+	
+	/**
+	 * Returns the grid that the objects in this room's middle layer are sorted into by their location.
+	 * @return the spatial hash grid of the middle layer
+	 */
+	public SpatialHashGrid getSpatialGrid() {
+		return spatialGrid;
+	}
+	
+	public int getWidth() {
+		return width;
+	}
+	
+	public int getHeight() {
+		return height;
+	}
+	
 	public List<GameObject> getBottomLayer() {
 		return bottomLayer;
 	}
@@ -227,6 +378,16 @@ public class Room {
 		return middleLayer;
 	}
 
+	/**
+	 * Returns the objects of the middle layer with the given category. Removing an object changes the order of the list.
+	 * The list is kept up to date by addToMiddleLayer and removeFromMiddleLayer, so it should not be modified.
+	 * @param category the category of the objects
+	 * @return the objects of the middle layer with the given category
+	 */
+	public List<GameObject> getMiddleLayer(Category category) {
+		return middleLayerByCategory.get(category.ordinal());
+	}
+
 	public List<GameObject> getTopLayer() {
 		return topLayer;
 	}
@@ -76,6 +76,12 @@ public class RoomExit extends GameObject {
 		g.drawImage(image, (int) x, (int) y, width, height, null);
 	}
 	
+	// Drawn into the room's static layer, which is redrawn when the exits are locked or unlocked
+	@Override
+	public boolean isStatic() {
+		return true;
+	}
+	
 	public void setLocked(boolean locked) {
 		this.locked = locked;
 	}
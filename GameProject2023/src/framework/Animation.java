@@ -1,6 +1,7 @@
 package framework;
 
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 public class Animation {
@@ -13,6 +14,9 @@ public class Animation {
 
 	private BufferedImage[] images;
 	private BufferedImage currentImage;
+	// The atlas frames of the images, null for images that were not created by the TextureLoader
+	private SpriteFrame[] frames;
+	private SpriteFrame currentFrame;
 
 	private boolean onlyPlayOnce;
 	private boolean playedOnce = false;
@@ -42,7 +46,7 @@ public class Animation {
 				images[i] = args[i];
 		}
 
-		currentImage = images[0];
+		setupFrames();
 	}
 	
 	public Animation(BufferedImage[] sprites, int delay, boolean onlyPlayOnce) {
@@ -62,7 +66,15 @@ public class Animation {
 				images[i] = sprites[i];
 		}
 
+		setupFrames();
+	}
+
+	private void setupFrames() {
+		frames = new SpriteFrame[frameCount];
+		for (int i = 0; i < frameCount; i++)
+			frames[i] = TextureLoader.getInstance().getFrame(images[i]);
 		currentImage = images[0];
+		currentFrame = frames[0];
 	}
 
 	/**
@@ -82,6 +94,7 @@ public class Animation {
 	private void nextFrame() {
 		frameIndex = (frameIndex + 1) % frameCount;
 		currentImage = images[frameIndex];
+		currentFrame = frames[frameIndex];
 
 		if (frameIndex == frameCount - 1)
 			playedOnce = true;
@@ -94,7 +107,10 @@ public class Animation {
 	 * @param y the y coordinate.
 	 */
 	public void drawAnimation(Graphics g, int x, int y) {
-		g.drawImage(currentImage, x, y, null);
+		if (currentFrame != null)
+			currentFrame.draw(g, x, y);
+		else
+			g.drawImage(currentImage, x, y, null);
 	}
 
 	/**
@@ -106,13 +122,72 @@ public class Animation {
 	 * @param height the scaling on height.
 	 */
 	public void drawAnimation(Graphics g, int x, int y, int width, int height) {
-		g.drawImage(currentImage, x, y, width, height, null);
+		if (currentFrame != null)
+			currentFrame.draw(g, x, y, width, height);
+		else
+			g.drawImage(currentImage, x, y, width, height, null);
+	}
+
+	/**
+	 * Draws the current frame of the animation with every visible pixel painted white.
+	 * @param g the graphics object to draw with.
+	 * @param x the x coordinate.
+	 * @param y the y coordinate.
+	 * @param width the scaling on width.
+	 * @param height the scaling on height.
+	 */
+	public void drawAnimationInWhite(Graphics g, int x, int y, int width, int height) {
+		if (currentFrame != null)
+			currentFrame.getWhiteSilhouette().draw(g, x, y, width, height);
+		else
+			g.drawImage(BufferedImageUtil.getImageInWhite((Graphics2D) g, currentImage), x, y, width, height, null);
+	}
+
+	/**
+	 * Draws the current frame of the animation rotated around its center.
+	 * @param g the graphics object to draw with.
+	 * @param x the x coordinate.
+	 * @param y the y coordinate.
+	 * @param width the scaling on width.
+	 * @param height the scaling on height.
+	 * @param angle the angle of rotation in radians.
+	 */
+	public void drawAnimation(Graphics g, int x, int y, int width, int height, double angle) {
+		if (currentFrame != null)
+			currentFrame.drawRotated(g, x + width / 2f, y + height / 2f, width, height, angle);
+		else
+			drawRotatedImage(g, currentImage, x, y, width, height, angle);
+	}
+
+	/**
+	 * Draws the current frame of the animation rotated around its center, with every visible pixel painted white.
+	 * @param g the graphics object to draw with.
+	 * @param x the x coordinate.
+	 * @param y the y coordinate.
+	 * @param width the scaling on width.
+	 * @param height the scaling on height.
+	 * @param angle the angle of rotation in radians.
+	 */
+	public void drawAnimationInWhite(Graphics g, int x, int y, int width, int height, double angle) {
+		if (currentFrame != null)
+			currentFrame.getWhiteSilhouette().drawRotated(g, x + width / 2f, y + height / 2f, width, height, angle);
+		else
+			drawRotatedImage(g, BufferedImageUtil.getImageInWhite((Graphics2D) g, currentImage), x, y, width, height, angle);
+	}
+
+	// Used for images that are not in the atlas, which can't be taken from the RotatedSpriteCache
+	private void drawRotatedImage(Graphics g, BufferedImage image, int x, int y, int width, int height, double angle) {
+		Graphics2D g2d = (Graphics2D) g;
+		g2d.rotate(angle, x + width / 2f, y + height / 2f);
+		g.drawImage(image, x, y, width, height, null);
+		g2d.rotate(-angle, x + width / 2f, y + height / 2f);
 	}
 
 	public void resetAnimation() {
 		playedOnce = false;
 		frameIndex = delayCounter = 0;
 		currentImage = images[0];
+		currentFrame = frames[0];
 	}
 	
 	public void pause() {
@@ -127,6 +202,14 @@ public class Animation {
 		return currentImage;
 	}
 	
+	/**
+	 * Returns the atlas frame of the current image.
+	 * @return the current frame, or null if the image is not in the atlas
+	 */
+	public SpriteFrame getCurrentSpriteFrame() {
+		return currentFrame;
+	}
+	
 	public boolean isPlayedOnce() {
 		return playedOnce;
 	}
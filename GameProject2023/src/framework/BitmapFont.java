@@ -0,0 +1,222 @@
+package framework;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+
+public class BitmapFont {
+
+	private static final char FIRST_CHAR = ' ';
+	private static final char LAST_CHAR = '~';
+	private static final int PADDING = 1;
+
+	// Shared by all fonts, created the first time text is drawn with transparency
+	private static AlphaComposite[] alphaComposites;
+
+	private final Font font;
+	private final Color color;
+	private final int ascent, descent, height;
+	// Kept to measure text that has characters outside of the atlas
+	private final FontMetrics metrics;
+
+	private BufferedImage atlas;
+	// The location of each glyph in the atlas, and where it is drawn relative to the pen position
+	private final int[] glyphX, glyphWidth, glyphOffsetX, advances;
+	// All glyphs share the same rows of the atlas, which start this far above the baseline
+	private int glyphTop, glyphHeight;
+
+	/**
+	 * The BitmapFont class draws text by copying pre-rendered glyphs from an image, instead of
+	 * rasterizing the font on every draw call. Glyphs are laid out one after another using their
+	 * advances, which matches how drawString lays out text without kerning or fractional metrics.
+	 * Only printable ASCII characters are cached, other text is drawn with drawString.
+	 *
+	 * @param font the font to render the glyphs with
+	 * @param color the color of the glyphs
+	 */
+	public BitmapFont(Font font, Color color) {
+		this.font = font;
+		this.color = color;
+
+		int glyphCount = LAST_CHAR - FIRST_CHAR + 1;
+		glyphX = new int[glyphCount];
+		glyphWidth = new int[glyphCount];
+		glyphOffsetX = new int[glyphCount];
+		advances = new int[glyphCount];
+
+		Graphics2D scratchGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+		metrics = scratchGraphics.getFontMetrics(font);
+		ascent = metrics.getAscent();
+		descent = metrics.getDescent();
+		height = metrics.getHeight();
+		bakeGlyphs(scratchGraphics.getFontRenderContext());
+		scratchGraphics.dispose();
+	}
+
+	// Draws every glyph next to each other in a single row
+	private void bakeGlyphs(FontRenderContext fontRenderContext) {
+		int atlasWidth = PADDING;
+		int minY = 0, maxY = 1;
+		Rectangle[] bounds = new Rectangle[glyphX.length];
+		for (int i = 0; i < glyphX.length; i++) {
+			char c = (char) (FIRST_CHAR + i);
+			bounds[i] = font.createGlyphVector(fontRenderContext, String.valueOf(c)).getPixelBounds(fontRenderContext, 0, 0);
+			advances[i] = metrics.charWidth(c);
+			glyphX[i] = atlasWidth;
+			glyphWidth[i] = bounds[i].width;
+			glyphOffsetX[i] = bounds[i].x;
+			atlasWidth += bounds[i].width + PADDING;
+			if (!bounds[i].isEmpty()) {
+				minY = Math.min(minY, bounds[i].y);
+				maxY = Math.max(maxY, bounds[i].y + bounds[i].height);
+			}
+		}
+
+		glyphTop = minY;
+		glyphHeight = maxY - minY;
+
+		atlas = BufferedImageUtil.createCompatibleImage(atlasWidth, glyphHeight, Transparency.TRANSLUCENT);
+		Graphics2D g = atlas.createGraphics();
+		g.setFont(font);
+		g.setColor(color);
+		for (int i = 0; i < glyphX.length; i++) {
+			if (glyphWidth[i] > 0)
+				g.drawString(String.valueOf((char) (FIRST_CHAR + i)), glyphX[i] - glyphOffsetX[i], -minY);
+		}
+		g.dispose();
+	}
+
+	/**
+	 * Draws the given text. Like Graphics.drawString, the y coordinate is the baseline of the text.
+	 * @param g the graphics object to draw with
+	 * @param text the text to draw
+	 * @param x the x coordinate of the start of the text
+	 * @param y the y coordinate of the baseline
+	 * @return the x coordinate after the text, where the next text can be drawn
+	 */
+	public int drawString(Graphics g, String text, int x, int y) {
+		if (!isCached(text)) {
+			g.setFont(font);
+			g.setColor(color);
+			g.drawString(text, x, y);
+			return x + metrics.stringWidth(text);
+		}
+		for (int i = 0; i < text.length(); i++)
+			x = drawChar(g, text.charAt(i), x, y);
+		return x;
+	}
+
+	/**
+	 * Draws the given text with transparency.
+	 * @param g the graphics object to draw with
+	 * @param text the text to draw
+	 * @param x the x coordinate of the start of the text
+	 * @param y the y coordinate of the baseline
+	 * @param alpha the opacity of the text, from 0 to 255
+	 */
+	public void drawString(Graphics g, String text, int x, int y, int alpha) {
+		Graphics2D g2d = (Graphics2D) g;
+		Composite previousComposite = g2d.getComposite();
+		g2d.setComposite(getAlphaComposite(alpha));
+		drawString(g, text, x, y);
+		g2d.setComposite(previousComposite);
+	}
+
+	/**
+	 * Draws the given number without creating a string for it.
+	 * @param g the graphics object to draw with
+	 * @param number the number to draw
+	 * @param x the x coordinate of the start of the number
+	 * @param y the y coordinate of the baseline
+	 * @return the x coordinate after the number, where the next text can be drawn
+	 */
+	public int drawNumber(Graphics g, int number, int x, int y) {
+		long value = number;
+		if (value < 0) {
+			x = drawChar(g, '-', x, y);
+			value = -value;
+		}
+		long divisor = 1;
+		while (divisor * 10 <= value)
+			divisor *= 10;
+		for (; divisor > 0; divisor /= 10)
+			x = drawChar(g, (char) ('0' + value / divisor % 10), x, y);
+		return x;
+	}
+
+	// Draws a single cached character and returns the pen position after it
+	private int drawChar(Graphics g, char c, int x, int y) {
+		int i = c - FIRST_CHAR;
+		if (glyphWidth[i] > 0) {
+			int destinationX = x + glyphOffsetX[i];
+			int destinationY = y + glyphTop;
+			g.drawImage(atlas, destinationX, destinationY, destinationX + glyphWidth[i], destinationY + glyphHeight,
+					glyphX[i], 0, glyphX[i] + glyphWidth[i], glyphHeight, null);
+		}
+		return x + advances[i];
+	}
+
+	private boolean isCached(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < FIRST_CHAR || c > LAST_CHAR)
+				return false;
+		}
+		return true;
+	}
+
+	private static AlphaComposite getAlphaComposite(int alpha) {
+		if (alphaComposites == null) {
+			AlphaComposite[] composites = new AlphaComposite[256];
+			for (int i = 0; i < composites.length; i++)
+				composites[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, i / 255f);
+			alphaComposites = composites;
+		}
+		return alphaComposites[Math.max(0, Math.min(255, alpha))];
+	}
+
+	/**
+	 * Returns the width of the given text when drawn with this font.
+	 * @param text the text to measure
+	 * @return the width of the text in pixels
+	 */
+	public int stringWidth(String text) {
+		int width = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < FIRST_CHAR || c > LAST_CHAR)
+				return metrics.stringWidth(text);
+			width += advances[c - FIRST_CHAR];
+		}
+		return width;
+	}
+
+	public Font getFont() {
+		return font;
+	}
+
+	public Color getColor() {
+		return color;
+	}
+
+	public int getAscent() {
+		return ascent;
+	}
+
+	public int getDescent() {
+		return descent;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+}
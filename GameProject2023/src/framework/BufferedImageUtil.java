@@ -1,11 +1,18 @@
 package framework;
 
 import java.awt.Color;
+import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DirectColorModel;
 
 public class BufferedImageUtil {
+	
+	private static final int SILHOUETTE_RGB = new Color(199, 207, 204).getRGB();
 
 	/**
 	 * Converts a given Image into a BufferedImage
@@ -29,6 +36,32 @@ public class BufferedImageUtil {
 		return bimage;
 	}
 	
+	/**
+	 * Creates an image in the format of the screen, so that Java2D can keep a copy of it
+	 * in its accelerated image cache. If there is no screen, an equivalent image is created instead.
+	 *
+	 * @param width 		The width of the image.
+	 * @param height 		The height of the image.
+	 * @param transparency 	One of Transparency.OPAQUE, BITMASK or TRANSLUCENT.
+	 * @return The new, empty image.
+	 */
+	public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+		if (!GraphicsEnvironment.isHeadless())
+			return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+					.createCompatibleImage(width, height, transparency);
+		
+		switch (transparency) {
+		case Transparency.OPAQUE:
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		case Transparency.BITMASK:
+			// 24 bit color with a single bit of alpha
+			ColorModel colorModel = new DirectColorModel(25, 0xff0000, 0xff00, 0xff, 0x1000000);
+			return new BufferedImage(colorModel, colorModel.createCompatibleWritableRaster(width, height), false, null);
+		default:
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+	}
+	
 	/**
 	 * Scales the given BufferedImage to the specified dimensions.
 	 *
@@ -60,28 +93,45 @@ public class BufferedImageUtil {
 		return image;
 	}
 	
+	/**
+	 * Draws the same part of the image that {@code getLeftClippedImage} returns, without creating a new image.
+	 *
+	 * @param g 			The Graphics object to draw with.
+	 * @param image 		The original BufferedImage to be clipped.
+	 * @param x 			The x coordinate to draw the clipped image at.
+	 * @param y 			The y coordinate to draw the clipped image at.
+	 * @param clippedWidth 	The desired width of the drawn image after clipping.
+	 */
+	public static void drawLeftClippedImage(Graphics g, BufferedImage image, int x, int y, int clippedWidth) {
+		int originalWidth = image.getWidth();
+		int sourceX = Math.min(originalWidth - clippedWidth, originalWidth - 1);
+		int width = Math.max(clippedWidth, 1);
+		int height = image.getHeight();
+		g.drawImage(image, x, y, x + width, y + height, sourceX, 0, sourceX + width, height, null);
+	}
+	
 	/**
 	 * Paints the non-transparent pixels of the given image to a white color.
-	 * Mainly used for invulnerability effects.
+	 * Mainly used for invulnerability effects. This creates a new image on every call,
+	 * images from the TextureLoader should use the cached {@code SpriteFrame.getWhiteSilhouette} instead.
 	 * 
 	 * @param g2d 	The Graphics2D object
 	 * @param image The image to be painted white
 	 * @return The white image
 	 */
 	public static BufferedImage getImageInWhite(Graphics2D g2d, BufferedImage image) {
-	    BufferedImage whiteImage = new BufferedImage(image.getWidth(), image.getHeight(), 
-	    		BufferedImage.TYPE_INT_ARGB);
+		int width = image.getWidth();
+		int height = image.getHeight();
+		BufferedImage whiteImage = createCompatibleImage(width, height, Transparency.TRANSLUCENT);
 
-	    for (int y = 0; y < image.getHeight(); y++) {
-	        for (int x = 0; x < image.getWidth(); x++) {
-	            int pixel = image.getRGB(x, y);
-	            int alpha = (pixel >> 24) & 0xFF;
-	            if (alpha != 0)
-	                whiteImage.setRGB(x, y, new Color(199, 207, 204).getRGB());
-	        }
-	    }
+		int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+		for (int i = 0; i < pixels.length; i++) {
+			int alpha = (pixels[i] >> 24) & 0xFF;
+			pixels[i] = alpha != 0 ? SILHOUETTE_RGB : 0;
+		}
+		whiteImage.setRGB(0, 0, width, height, pixels, 0, width);
 
-	    return whiteImage;
+		return whiteImage;
 	}
 	
 }
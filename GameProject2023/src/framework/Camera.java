@@ -0,0 +1,172 @@
+package framework;
+
+import abstracts.GameObject;
+
+public class Camera {
+
+	// Objects are drawn a bit outside of their bounds, so they are kept until they are this far off screen
+	private static final int CULLING_MARGIN = GameConstants.ScaleConstants.TILE_SIZE;
+
+	private final int viewportWidth, viewportHeight;
+	private int worldWidth, worldHeight;
+
+	private float x, y;
+	private float previousX, previousY;
+
+	private int shakeDuration, shakeMagnitude;
+	private int shakeOffsetX, shakeOffsetY;
+
+	/**
+	 * The Camera class decides which part of the current room is visible on the screen.
+	 * It follows a target while staying inside of the room, and can be shaken for a number of updates.
+	 * The world layers are drawn translated by the camera, while the menu layer stays in screen space.
+	 *
+	 * @param viewportWidth the width of the visible area
+	 * @param viewportHeight the height of the visible area
+	 */
+	public Camera(int viewportWidth, int viewportHeight) {
+		this.viewportWidth = viewportWidth;
+		this.viewportHeight = viewportHeight;
+		worldWidth = viewportWidth;
+		worldHeight = viewportHeight;
+	}
+
+	/**
+	 * Centers the camera on the given target, keeping the viewport inside of the world,
+	 * and advances the screen shake. Should be called once per update.
+	 * @param target the object to follow, or null to stay in place
+	 */
+	public void update(GameObject target) {
+		previousX = x;
+		previousY = y;
+		if (target != null) {
+			x = target.getX() + target.getWidth() / 2f - viewportWidth / 2f;
+			y = target.getY() + target.getHeight() / 2f - viewportHeight / 2f;
+		}
+		x = clamp(x, worldWidth - viewportWidth);
+		y = clamp(y, worldHeight - viewportHeight);
+
+		if (shakeDuration > 0) {
+			shakeDuration--;
+			shakeOffsetX = (int) (Math.random() * shakeMagnitude - shakeMagnitude / 2);
+			shakeOffsetY = (int) (Math.random() * shakeMagnitude - shakeMagnitude / 2);
+		}
+		else
+			shakeOffsetX = shakeOffsetY = 0;
+	}
+
+	// Rooms that are smaller than the viewport are drawn from their top left corner
+	private float clamp(float position, int maxPosition) {
+		return Math.max(0, Math.min(maxPosition, position));
+	}
+
+	/**
+	 * Moves the camera to its target immediately, so that it doesn't move in between updates.
+	 * Should be called after the target is teleported, such as when the player enters a new room.
+	 * @param target the object to follow
+	 */
+	public void snapTo(GameObject target) {
+		update(target);
+		previousX = x;
+		previousY = y;
+	}
+
+	/**
+	 * Shakes the camera in random directions.
+	 * @param duration the number of updates to shake for
+	 * @param magnitude the maximum distance of the shake in pixels
+	 */
+	public void shake(int duration, int magnitude) {
+		shakeDuration = duration;
+		shakeMagnitude = magnitude;
+	}
+
+	/**
+	 * Sets the size of the area that the camera can move in, which is the size of the current room.
+	 * @param worldWidth the width of the world in pixels
+	 * @param worldHeight the height of the world in pixels
+	 */
+	public void setWorldSize(int worldWidth, int worldHeight) {
+		this.worldWidth = worldWidth;
+		this.worldHeight = worldHeight;
+	}
+
+	/**
+	 * Returns the x coordinate of the left edge of the viewport, including the screen shake.
+	 * @param interpolation how far the game is between the last update and the next one, from 0 to 1
+	 * @return the x coordinate to translate the world by
+	 */
+	public int getX(float interpolation) {
+		return Math.round(previousX + (x - previousX) * interpolation) + shakeOffsetX;
+	}
+
+	/**
+	 * Returns the y coordinate of the top edge of the viewport, including the screen shake.
+	 * @param interpolation how far the game is between the last update and the next one, from 0 to 1
+	 * @return the y coordinate to translate the world by
+	 */
+	public int getY(float interpolation) {
+		return Math.round(previousY + (y - previousY) * interpolation) + shakeOffsetY;
+	}
+
+	/**
+	 * @return the x coordinate of the viewport at the last update, without rounding or screen shake
+	 */
+	public float getCurrentX() {
+		return x;
+	}
+
+	/**
+	 * @return the y coordinate of the viewport at the last update, without rounding or screen shake
+	 */
+	public float getCurrentY() {
+		return y;
+	}
+
+	/**
+	 * @return the x coordinate of the viewport at the update before the last one, without rounding or screen shake
+	 */
+	public float getPreviousX() {
+		return previousX;
+	}
+
+	/**
+	 * @return the y coordinate of the viewport at the update before the last one, without rounding or screen shake
+	 */
+	public float getPreviousY() {
+		return previousY;
+	}
+
+	/**
+	 * Checks if any part of the given object could be visible on the screen.
+	 * @param object the object to check
+	 * @return true if the object should be drawn, false otherwise
+	 */
+	public boolean isVisible(GameObject object) {
+		return isVisible(object.getX(), object.getY(), object.getWidth(), object.getHeight());
+	}
+
+	/**
+	 * Checks if any part of the given area could be visible on the screen.
+	 * @param x the x coordinate of the area
+	 * @param y the y coordinate of the area
+	 * @param width the width of the area
+	 * @param height the height of the area
+	 * @return true if the area should be drawn, false otherwise
+	 */
+	public boolean isVisible(float x, float y, int width, int height) {
+		return x + width + CULLING_MARGIN > Math.min(this.x, previousX)
+				&& y + height + CULLING_MARGIN > Math.min(this.y, previousY)
+				&& x - CULLING_MARGIN < Math.max(this.x, previousX) + viewportWidth
+				&& y - CULLING_MARGIN < Math.max(this.y, previousY) + viewportHeight;
+	}
+
+	public int getViewportWidth() {
+		return viewportWidth;
+	}
+
+	public int getViewportHeight() {
+		return viewportHeight;
+	}
+
+}
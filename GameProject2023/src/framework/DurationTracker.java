@@ -7,21 +7,22 @@ public class DurationTracker {
 
     /**
      * The DurationTracker class is used for checking if a certain amount of time has passed
-     * since the last occurence of an event.
+     * since the last occurence of an event. Time is measured with the GameClock.
      * 
      * @param durationMillis The amount of time that needs to pass for the event to be over, in milliseconds.
      */
     public DurationTracker(long durationMillis) {
         this.durationMillis = durationMillis;
-        startTime = durationMillis;
+        // Start as if the duration had already elapsed
+        startTime = -durationMillis;
     }
 
     public void start() {
-        startTime = System.currentTimeMillis();
+        startTime = GameClock.getInstance().currentTimeMillis();
     }
 
     public boolean hasDurationElapsed() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.getInstance().currentTimeMillis();
         return (currentTime - startTime) >= durationMillis;
     }
     
@@ -34,7 +35,7 @@ public class DurationTracker {
     }
     
     public long getRemainingDuration() {
-    	return durationMillis - (System.currentTimeMillis() - startTime);
+    	return durationMillis - (GameClock.getInstance().currentTimeMillis() - startTime);
     }
     
 }
@@ -5,10 +5,12 @@ import static framework.GameConstants.ScaleConstants.TILE_ROWS;
 
 import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
@@ -107,6 +109,21 @@ public class FileIO {
 		}
 	}
 
+	/**
+	 * Opens a buffered writer that appends to the end of the given file.
+	 * The file and its parent directories are created if they don't exist.
+	 * The caller is responsible for closing the writer.
+	 * @param filename the name of the file
+	 * @return the writer
+	 * @throws IOException if the file can't be opened
+	 */
+	public BufferedWriter openAppendWriter(String filename) throws IOException {
+		File outputFile = new File(filename);
+		if (outputFile.getParentFile() != null)
+			outputFile.getParentFile().mkdirs();
+		return new BufferedWriter(new FileWriter(outputFile, true));
+	}
+
 	/**
 	 * Loads the image file with the given name from the res folder.
 	 * @param filename the name of the image file
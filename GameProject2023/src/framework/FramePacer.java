@@ -0,0 +1,37 @@
+package framework;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class FramePacer {
+
+	private final long spinThresholdNanos;
+
+	/**
+	 * The FramePacer class is used by the game loop to wait for its next update or render deadline
+	 * without keeping a core busy. The thread is parked for most of the wait, and only spins for
+	 * the last moment before the deadline since parking is not precise enough on its own.
+	 *
+	 * @param spinThresholdNanos how close to the deadline the pacer stops parking and starts spinning, in nanoseconds
+	 */
+	public FramePacer(long spinThresholdNanos) {
+		this.spinThresholdNanos = spinThresholdNanos;
+	}
+
+	/**
+	 * Blocks the calling thread until System.nanoTime() reaches the given deadline.
+	 * Returns immediately if the deadline has already passed.
+	 *
+	 * @param deadlineNanos the deadline to wait for, as a System.nanoTime() value
+	 */
+	public void waitUntil(long deadlineNanos) {
+		long remaining = deadlineNanos - System.nanoTime();
+		while (remaining > 0) {
+			if (remaining > spinThresholdNanos)
+				LockSupport.parkNanos(remaining - spinThresholdNanos);
+			else
+				Thread.onSpinWait();
+			remaining = deadlineNanos - System.nanoTime();
+		}
+	}
+
+}
@@ -0,0 +1,168 @@
+package framework;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+public class FrameTelemetry {
+
+	private static final int SAMPLE_CAPACITY = 1024;
+	
+	private final FrameTimeHistogram tickTimes = new FrameTimeHistogram("Tick", SAMPLE_CAPACITY);
+	private final FrameTimeHistogram renderTimes = new FrameTimeHistogram("Render", SAMPLE_CAPACITY);
+	private final FrameTimeHistogram presentTimes = new FrameTimeHistogram("Present", SAMPLE_CAPACITY);
+	private final FrameTimeHistogram[] histograms = {tickTimes, renderTimes, presentTimes};
+	
+	private final FileIO fileIO = new FileIO();
+	private final String logFilename;
+	private final int logIntervalSeconds;
+	private int secondsSinceLastLog = 0;
+	private boolean loggingEnabled = false;
+	
+	// Rows of the log file are written by a background thread, so that opening and writing
+	// the file never delays the thread that is being timed
+	private final BlockingQueue<double[]> pendingLogRows = new LinkedBlockingQueue<>();
+	private Thread logThread;
+	
+	// Rebuilt once per second so the overlay doesn't create strings every frame
+	private volatile String[] overlayLines = new String[0];
+
+	/**
+	 * The FrameTelemetry class measures how long updates, rendering and presenting frames take.
+	 * Rolling percentiles of each are shown on the debug overlay, and while logging is enabled
+	 * they are periodically appended to a CSV file, which can be compared between builds to find hitches.
+	 * 
+	 * @param logFilename the CSV file to append to
+	 * @param logIntervalSeconds how often a line is appended to the file, in seconds
+	 */
+	public FrameTelemetry(String logFilename, int logIntervalSeconds) {
+		this.logFilename = logFilename;
+		this.logIntervalSeconds = logIntervalSeconds;
+	}
+	
+	/**
+	 * Recalculates the percentiles and queues a line for the log file when it is time to.
+	 * This should be called once per second.
+	 * @param fps the frames rendered in the last second
+	 * @param ups the updates done in the last second
+	 */
+	public void update(int fps, int ups) {
+		String[] lines = new String[histograms.length];
+		for (int i = 0; i < histograms.length; i++) {
+			FrameTimeHistogram histogram = histograms[i];
+			histogram.calculatePercentiles();
+			lines[i] = String.format(Locale.ROOT, "%-7s p50 %.2f p95 %.2f p99 %.2f max %.2f",
+					histogram.getName(), histogram.getP50Millis(), histogram.getP95Millis(),
+					histogram.getP99Millis(), histogram.getMaxMillis());
+		}
+		overlayLines = lines;
+		
+		if (!loggingEnabled)
+			return;
+		if (++secondsSinceLastLog >= logIntervalSeconds) {
+			secondsSinceLastLog = 0;
+			queueLogRow(fps, ups);
+		}
+	}
+	
+	// Only copies the values, they are formatted and written on the log thread
+	private void queueLogRow(int fps, int ups) {
+		double[] row = new double[3 + histograms.length * 4];
+		row[0] = System.currentTimeMillis();
+		row[1] = fps;
+		row[2] = ups;
+		for (int i = 0; i < histograms.length; i++) {
+			FrameTimeHistogram histogram = histograms[i];
+			row[3 + i * 4] = histogram.getP50Millis();
+			row[4 + i * 4] = histogram.getP95Millis();
+			row[5 + i * 4] = histogram.getP99Millis();
+			row[6 + i * 4] = histogram.getMaxMillis();
+		}
+		pendingLogRows.offer(row);
+		
+		if (logThread == null) {
+			logThread = new Thread(this::writeLogRows, "Telemetry log");
+			logThread.setDaemon(true);
+			logThread.start();
+		}
+	}
+	
+	// Keeps the log file open and writes the queued rows as they arrive
+	private void writeLogRows() {
+		boolean headerWritten = new File(logFilename).exists();
+		try (BufferedWriter writer = fileIO.openAppendWriter(logFilename)) {
+			if (!headerWritten) {
+				writer.write(getLogHeader());
+				writer.newLine();
+			}
+			while (true) {
+				double[] row = pendingLogRows.take();
+				writer.write(String.format(Locale.ROOT, "%d,%d,%d", (long) row[0], (int) row[1], (int) row[2]));
+				for (int i = 3; i < row.length; i++)
+					writer.write(String.format(Locale.ROOT, ",%.3f", row[i]));
+				writer.newLine();
+				
+				// Flushed once the queue is empty, so the file stays up to date between rows
+				if (pendingLogRows.isEmpty())
+					writer.flush();
+			}
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private String getLogHeader() {
+		StringBuilder sb = new StringBuilder("timestamp,fps,ups");
+		for (FrameTimeHistogram histogram : histograms) {
+			String name = histogram.getName().toLowerCase(Locale.ROOT);
+			sb.append(',').append(name).append("_p50");
+			sb.append(',').append(name).append("_p95");
+			sb.append(',').append(name).append("_p99");
+			sb.append(',').append(name).append("_max");
+		}
+		return sb.toString();
+	}
+	
+	public boolean isLoggingEnabled() {
+		return loggingEnabled;
+	}
+	
+	/**
+	 * Enables or disables appending the percentiles to the log file.
+	 * @param loggingEnabled whether lines should be written to the log file
+	 */
+	public void setLoggingEnabled(boolean loggingEnabled) {
+		if (this.loggingEnabled == loggingEnabled)
+			return;
+		this.loggingEnabled = loggingEnabled;
+		secondsSinceLastLog = 0;
+	}
+	
+	public void recordTick(long nanos) {
+		tickTimes.record(nanos);
+	}
+	
+	public void recordRender(long nanos) {
+		renderTimes.record(nanos);
+	}
+	
+	public void recordPresent(long nanos) {
+		presentTimes.record(nanos);
+	}
+	
+	/**
+	 * Returns the percentile summaries calculated in the last call to update, one line per measured value.
+	 * @return the lines to display on the debug overlay, in milliseconds
+	 */
+	public String[] getOverlayLines() {
+		return overlayLines;
+	}
+	
+}
@@ -0,0 +1,91 @@
+package framework;
+
+import java.util.Arrays;
+
+public class FrameTimeHistogram {
+
+	private final String name;
+	
+	// Ring buffer of the latest samples, in nanoseconds
+	private final long[] samples;
+	private int nextIndex = 0;
+	private int sampleCount = 0;
+	// Reused when sorting the samples to avoid allocating
+	private final long[] sortedSamples;
+	
+	private double p50Millis, p95Millis, p99Millis, maxMillis;
+
+	/**
+	 * The FrameTimeHistogram class keeps the durations of the latest frames or updates in a ring buffer,
+	 * and calculates percentiles over them on demand. Recording a sample is cheap enough to do every frame,
+	 * while the percentiles are meant to be calculated periodically.
+	 * 
+	 * @param name the name of the measured value, used in logs and on the debug overlay
+	 * @param capacity the number of latest samples that the percentiles are calculated over
+	 */
+	public FrameTimeHistogram(String name, int capacity) {
+		this.name = name;
+		samples = new long[capacity];
+		sortedSamples = new long[capacity];
+	}
+	
+	/**
+	 * Adds a sample to the ring buffer, replacing the oldest one if it is full.
+	 * @param nanos the measured duration in nanoseconds
+	 */
+	public synchronized void record(long nanos) {
+		samples[nextIndex] = nanos;
+		nextIndex = (nextIndex + 1) % samples.length;
+		if (sampleCount < samples.length)
+			sampleCount++;
+	}
+	
+	/**
+	 * Calculates the percentiles of the samples currently in the ring buffer.
+	 * The results can be read with the getters until this is called again.
+	 */
+	public synchronized void calculatePercentiles() {
+		if (sampleCount == 0) {
+			p50Millis = p95Millis = p99Millis = maxMillis = 0;
+			return;
+		}
+		
+		System.arraycopy(samples, 0, sortedSamples, 0, sampleCount);
+		Arrays.sort(sortedSamples, 0, sampleCount);
+		p50Millis = toMillis(percentile(0.50));
+		p95Millis = toMillis(percentile(0.95));
+		p99Millis = toMillis(percentile(0.99));
+		maxMillis = toMillis(sortedSamples[sampleCount - 1]);
+	}
+	
+	// Nearest rank percentile of the sorted samples
+	private long percentile(double fraction) {
+		int rank = (int) Math.ceil(fraction * sampleCount);
+		return sortedSamples[Math.max(rank - 1, 0)];
+	}
+	
+	private double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+	
+	public String getName() {
+		return name;
+	}
+
+	public synchronized double getP50Millis() {
+		return p50Millis;
+	}
+
+	public synchronized double getP95Millis() {
+		return p95Millis;
+	}
+
+	public synchronized double getP99Millis() {
+		return p99Millis;
+	}
+
+	public synchronized double getMaxMillis() {
+		return maxMillis;
+	}
+	
+}
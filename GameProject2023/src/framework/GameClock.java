@@ -0,0 +1,72 @@
+package framework;
+
+import framework.GameConstants.LoopConstants;
+
+public class GameClock {
+
+	private static GameClock instance = null;
+
+	private final long nanosPerTick;
+	private volatile long elapsedNanos = 0;
+
+	/**
+	 * The GameClock class keeps track of the time that has passed inside the game.
+	 * Unlike the system clock, it only moves forward when the simulation is updated, by a fixed
+	 * amount per update. Timers that read it keep behaving the same way when the game is paused,
+	 * slowed down, or updated faster than real time.
+	 *
+	 * @param ticksPerSecond the number of updates that make up one second of game time
+	 */
+	public GameClock(int ticksPerSecond) {
+		nanosPerTick = 1_000_000_000L / ticksPerSecond;
+	}
+
+	/**
+	 * Returns the clock used by the game. A clock running at MAX_UPS is created on first use,
+	 * unless another one was set with setInstance.
+	 * @return the game clock
+	 */
+	public static GameClock getInstance() {
+		if (instance == null)
+			instance = new GameClock(LoopConstants.MAX_UPS);
+		return instance;
+	}
+
+	/**
+	 * Replaces the clock used by the game, for example to run the simulation at a different tick rate.
+	 * Should be called before any objects are created.
+	 * @param clock the clock to use
+	 */
+	public static void setInstance(GameClock clock) {
+		instance = clock;
+	}
+
+	/**
+	 * Advances the clock by the duration of a single update.
+	 */
+	public void tick() {
+		elapsedNanos += nanosPerTick;
+	}
+
+	/**
+	 * Advances the clock by the given amount of time.
+	 * @param nanos the time to advance by, in nanoseconds
+	 */
+	public void advance(long nanos) {
+		elapsedNanos += nanos;
+	}
+
+	/**
+	 * Returns the game time that has passed since the clock was created.
+	 * Used in place of System.currentTimeMillis() by all game timers.
+	 * @return the elapsed game time in milliseconds
+	 */
+	public long currentTimeMillis() {
+		return elapsedNanos / 1_000_000;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+}
@@ -21,13 +21,9 @@ public interface GameConstants {
 	 *		This might be unnecessary, it may be possible to multiply all speeds with scale and
 	 *		still get accurate results.
 	 *
-	 * TODO:
-	 * Fix the resolution issue.
-	 * Start the game as full screen and store the window width and height.
-	 * 
-	 * Calculate tile size:
-	 * tileSize = min(WIDTH / COLUMNS, HEIGHT / ROWS)
-	 * Add letter boxing and center the game.
+	 * Resolution:
+	 * The game is always drawn at GAME_WIDTH x GAME_HEIGHT into a back buffer, which is then
+	 * scaled to fit the window with letter boxing. The window size doesn't affect these constants.
 	 */
 	
 	public static class ScaleConstants {
@@ -47,6 +43,20 @@ public interface GameConstants {
 		public static final int GAME_HEIGHT = TILE_SIZE * TILE_ROWS;
 	}
 	
+	public static class LoopConstants {
+		public static final int MAX_FPS = 120;
+		public static final int MAX_UPS = 120;
+		// Frame rate used instead of MAX_FPS while power saving is enabled
+		public static final int POWER_SAVING_FPS = 60;
+		// The loop thread is parked until this close to a deadline, then spins for the rest
+		public static final long SPIN_THRESHOLD_NANOS = 1_000_000;
+		// Maximum number of updates run back to back to catch up after a slow frame
+		public static final int MAX_CATCH_UP_UPDATES = 5;
+		// Whether updating and rendering run on two separate threads.
+		// The render thread interpolates the recorded frames the same way as drawing directly does.
+		public static final boolean SEPARATE_RENDER_THREAD = true;
+	}
+	
 	public static class PhysicsConstants {
 		public static final float GRAVITY = 0.2f;
 		public static final int TERMINAL_VELOCITY = 15;		
@@ -57,6 +67,7 @@ public interface GameConstants {
 		
 		public static final Font DAMAGE_FONT = new Font("Calibri", Font.PLAIN, 20);
 		public static final Font INVENTORY_FONT = new Font("Calibri", Font.BOLD, 20);
+		public static final Font DEBUG_FONT = new Font("Calibri", Font.PLAIN, 15);
 		public static Font UI_FONT;
 		
 		static {
@@ -75,7 +86,19 @@ public interface GameConstants {
 			} catch (IOException e) {
 				e.printStackTrace();
 			}
+			// The UI text below is baked from this font, so a default one is used if loading failed
+			if (UI_FONT == null)
+				UI_FONT = new Font(Font.DIALOG, Font.PLAIN, 24);
 		}
+		
+		// Glyph atlases of the fonts above, baked once in every color that they are drawn with
+		public static final BitmapFont DAMAGE_TEXT = new BitmapFont(DAMAGE_FONT, Color.WHITE);
+		public static final BitmapFont CRITICAL_DAMAGE_TEXT = new BitmapFont(DAMAGE_FONT, Color.RED);
+		public static final BitmapFont INVENTORY_TEXT = new BitmapFont(INVENTORY_FONT, Color.BLACK);
+		public static final BitmapFont DEBUG_TEXT = new BitmapFont(DEBUG_FONT, Color.WHITE);
+		public static final BitmapFont DEBUG_HEALTH_TEXT = new BitmapFont(DEBUG_FONT, new Color(220, 80, 80));
+		public static final BitmapFont DEBUG_VELOCITY_TEXT = new BitmapFont(DEBUG_FONT, Color.CYAN);
+		public static final BitmapFont UI_TEXT = new BitmapFont(UI_FONT, WHITE_FONT_COLOR);
 	}
 	
 }
@@ -0,0 +1,77 @@
+package framework;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import abstracts.GameObject;
+
+public class ObjectCommandBuffer {
+
+	// Used instead of a layer for removals that should search every layer
+	public static final int ANY_LAYER = -1;
+
+	// The commands are stored in parallel arrays so that recording one doesn't allocate
+	private final ArrayList<GameObject> objects = new ArrayList<>();
+	private int[] layers = new int[16];
+	private boolean[] additions = new boolean[16];
+
+	/**
+	 * The ObjectCommandBuffer class records the objects that are added and removed while the layers
+	 * are being updated, so that the ObjectHandler can apply them all at once after the update,
+	 * in the order that they were recorded. This way the layers never change while they are iterated.
+	 */
+	public ObjectCommandBuffer() {}
+
+	/**
+	 * Records an object to be added to the given layer.
+	 * @param object the object to add
+	 * @param layer the layer to add the object into
+	 */
+	public void add(GameObject object, int layer) {
+		record(object, layer, true);
+	}
+
+	/**
+	 * Records an object to be removed from the given layer.
+	 * @param object the object to remove
+	 * @param layer the layer to remove the object from, or ANY_LAYER
+	 */
+	public void remove(GameObject object, int layer) {
+		record(object, layer, false);
+	}
+
+	private void record(GameObject object, int layer, boolean addition) {
+		int index = objects.size();
+		if (index == layers.length) {
+			layers = Arrays.copyOf(layers, index * 2);
+			additions = Arrays.copyOf(additions, index * 2);
+		}
+		objects.add(object);
+		layers[index] = layer;
+		additions[index] = addition;
+	}
+
+	public int size() {
+		return objects.size();
+	}
+
+	public GameObject getObject(int index) {
+		return objects.get(index);
+	}
+
+	public int getLayer(int index) {
+		return layers[index];
+	}
+
+	public boolean isAddition(int index) {
+		return additions[index];
+	}
+
+	/**
+	 * Removes every recorded command.
+	 */
+	public void clear() {
+		objects.clear();
+	}
+
+}
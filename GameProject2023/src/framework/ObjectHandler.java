@@ -1,7 +1,7 @@
 package framework;
 
-import static framework.GameConstants.ScaleConstants.TILE_COLUMNS;
-import static framework.GameConstants.ScaleConstants.TILE_ROWS;
+import static framework.GameConstants.ScaleConstants.GAME_HEIGHT;
+import static framework.GameConstants.ScaleConstants.GAME_WIDTH;
 import static framework.GameConstants.ScaleConstants.TILE_SIZE;
 
 import java.awt.Graphics;
@@ -29,7 +29,6 @@ import game_objects.tiles.RockTileBlock;
 import game_objects.tiles.StoneTileBlock;
 import game_objects.tiles.WoodJumpThroughTileBlock;
 import items.BigHealthPotionItem;
-import items.Coin;
 import items.KatanaWeaponItem;
 import items.SmallHealthPotionItem;
 import items.SwordWeaponItem;
@@ -37,6 +36,7 @@ import ui.DebugConsole;
 import ui.HUD;
 import ui.Inventory;
 import ui.Minimap;
+import visual_effects.CombatTextManager;
 import window.KeyInput;
 import window.MouseInput;
 
@@ -57,6 +57,22 @@ public class ObjectHandler {
 	private KeyInput keyInput;
 	private MouseInput mouseInput;
 	
+	// How far the game is between the previous and the next update, used while rendering
+	private float interpolation = 1f;
+	// The camera position that beginWorldSpace translated by, to be undone by endWorldSpace
+	private int worldSpaceX, worldSpaceY;
+	
+	private ObjectProfiler profiler = new ObjectProfiler(8);
+	private Camera camera = new Camera(GAME_WIDTH, GAME_HEIGHT);
+	private CombatTextManager combatTextManager = new CombatTextManager(this);
+	private ObjectPools objectPools = new ObjectPools(this);
+	
+	// Objects that are added or removed while the layers are updated are applied after the update
+	private ObjectCommandBuffer commandBuffer = new ObjectCommandBuffer();
+	private boolean updatingLayers = false;
+	// A room change that is requested during the update is also applied after it
+	private RoomDirection pendingRoomDirection;
+	
 	/**
 	 * This is the class responsible for adding, removing, updating and rendering 
 	 * all GameObjects in the game.
@@ -77,6 +93,7 @@ public class ObjectHandler {
 	public void setupGame(int roomsPerFloor) {
 		floor = new Floor(this);
 		floor.generateRandomFloor(roomsPerFloor);
+		followPlayerIntoRoom();
 		
 		addObject(new DebugConsole(180, 10, keyInput, this), MENU_LAYER);
 		
@@ -88,6 +105,8 @@ public class ObjectHandler {
 		
 		Minimap minimap = new Minimap(TILE_SIZE * 4, TILE_SIZE * 4, floor);
 		addObject(minimap, MENU_LAYER);
+		
+		addObject(combatTextManager, MENU_LAYER);
 	}
 	
 	/**
@@ -109,8 +128,8 @@ public class ObjectHandler {
 		// Top layer on index 2
 		layers.add(new ArrayList<GameObject>());
 		
-		for (int i = 0; i < TILE_ROWS; i++) {
-			for (int j = 0; j < TILE_COLUMNS; j++) {
+		for (int i = 0; i < bottomLayerUIDs.length; i++) {
+			for (int j = 0; j < bottomLayerUIDs[i].length; j++) {
 				Name objectNameBL = ObjectId.Name.getByUID(bottomLayerUIDs[i][j]);
 				Name objectNameML = ObjectId.Name.getByUID(middleLayerUIDs[i][j]);
 				Name objectNameTL = ObjectId.Name.getByUID(topLayerUIDs[i][j]);
@@ -141,8 +160,8 @@ public class ObjectHandler {
 		List<Creature> wave2 = new ArrayList<>();
 		List<Creature> wave3 = new ArrayList<>();
 
-		for (int i = 0; i < TILE_ROWS; i++) {
-			for (int j = 0; j < TILE_COLUMNS; j++) {
+		for (int i = 0; i < wave1UIDs.length; i++) {
+			for (int j = 0; j < wave1UIDs[i].length; j++) {
 				Name enemy1Name = ObjectId.Name.getByUID(wave1UIDs[i][j]);
 				Name enemy2Name = ObjectId.Name.getByUID(wave2UIDs[i][j]);
 				Name enemy3Name = ObjectId.Name.getByUID(wave3UIDs[i][j]);
@@ -187,43 +206,157 @@ public class ObjectHandler {
 		if (floor == null)
 			return;
 		
+		GameClock.getInstance().tick();
+		
+		if (keyInput != null)
+			profiler.setEnabled(keyInput.profilerPressed);
+		
 		// Update the objects of the current room
 		Room currentRoom = floor.getCurrentRoom();
-		for (int i = currentRoom.getBottomLayer().size() - 1; i >= 0; i--) 
-			currentRoom.getBottomLayer().get(i).tick();
-		for (int i = currentRoom.getMiddleLayer().size() - 1; i >= 0; i--) 
-			currentRoom.getMiddleLayer().get(i).tick();
-		for (int i = currentRoom.getTopLayer().size() - 1; i >= 0; i--) 
-			currentRoom.getTopLayer().get(i).tick();
-		for (int i = menuLayer.size() - 1; i >= 0; i--) 
-			menuLayer.get(i).tick();
+		updatingLayers = true;
+		tickLayer(currentRoom.getBottomLayer(), BOTTOM_LAYER, null);
+		tickLayer(currentRoom.getMiddleLayer(), MIDDLE_LAYER, currentRoom.getSpatialGrid());
+		tickLayer(currentRoom.getTopLayer(), TOP_LAYER, null);
+		tickLayer(menuLayer, MENU_LAYER, null);
+		updatingLayers = false;
+		applyCommands();
+		
+		if (pendingRoomDirection != null) {
+			RoomDirection roomDirection = pendingRoomDirection;
+			pendingRoomDirection = null;
+			enterNeighboringRoom(roomDirection);
+		}
 		
 		floor.handleEnemyWaves();
+		camera.update(player);
+		
+		if (profiler.isEnabled())
+			profiler.update();
+	}
+	
+	// Objects that move are updated in the grid after their tick, if the layer has a grid
+	private void tickLayer(List<GameObject> objects, int layer, SpatialHashGrid spatialGrid) {
+		if (profiler.isEnabled()) {
+			for (int i = objects.size() - 1; i >= 0; i--) {
+				GameObject object = objects.get(i);
+				long startTime = System.nanoTime();
+				tickObject(object, spatialGrid);
+				profiler.record(ObjectProfiler.TICK, layer, object, System.nanoTime() - startTime);
+			}
+		}
+		else {
+			for (int i = objects.size() - 1; i >= 0; i--) 
+				tickObject(objects.get(i), spatialGrid);
+		}
+	}
+
+	// Creatures remember where they were before each update so that they can be drawn in between updates
+	private void tickObject(GameObject object, SpatialHashGrid spatialGrid) {
+		if (object instanceof Creature)
+			((Creature) object).savePreviousPosition();
+		object.tick();
+		if (spatialGrid != null && !object.isStatic())
+			spatialGrid.update(object);
 	}
 
 	/**
 	 * Render the GameObjects in the current room.
 	 * This method should be called in every frame of the game loop.
-	 * Culling is performed by only rendering the room that the player is in.
+	 * Culling is performed by only rendering the room that the player is in,
+	 * and skipping the objects of the room that are outside of the camera's view.
 	 * @param g the graphics object to use for rendering
+	 * @param interpolation how far the game is between the last update and the next one, from 0 to 1
 	 */
-	public void renderObjects(Graphics g) {
+	public void renderObjects(Graphics g, float interpolation) {
 		if (floor == null)
 			return;
 		
+		this.interpolation = interpolation;
 		Room currentRoom = floor.getCurrentRoom();
-		for (int i = currentRoom.getBottomLayer().size() - 1; i >= 0; i--) 
-			currentRoom.getBottomLayer().get(i).render(g);
-		for (int i = currentRoom.getMiddleLayer().size() - 1; i >= 0; i--) 
-			currentRoom.getMiddleLayer().get(i).render(g);
-		for (int i = currentRoom.getTopLayer().size() - 1; i >= 0; i--) 
-			currentRoom.getTopLayer().get(i).render(g);
-		for (int i = menuLayer.size() - 1; i >= 0; i--) 
-			menuLayer.get(i).render(g);
+		StaticLayerCache staticLayers = currentRoom.getStaticLayerCache();
+		
+		// The room is drawn in world space, and the menu layer in screen space
+		beginWorldSpace(g);
+		// The static objects of each layer are drawn as a single cached image, always below the dynamic ones.
+		// The order of a layer's list only decides the order among its dynamic objects, so an effect or item
+		// added to a layer is drawn over its static objects, such as a locked RoomExit, instead of under them.
+		staticLayers.render(g, BOTTOM_LAYER, currentRoom.getBottomLayer(), camera);
+		renderLayer(g, currentRoom.getBottomLayer(), BOTTOM_LAYER, camera);
+		staticLayers.render(g, MIDDLE_LAYER, currentRoom.getTileObjects(), currentRoom.getMiddleLayer(), camera);
+		renderLayer(g, currentRoom.getMiddleLayer(), MIDDLE_LAYER, camera);
+		staticLayers.render(g, TOP_LAYER, currentRoom.getTopLayer(), camera);
+		renderLayer(g, currentRoom.getTopLayer(), TOP_LAYER, camera);
+		endWorldSpace(g);
+		
+		renderLayer(g, menuLayer, MENU_LAYER, null);
+	}
+	
+	/**
+	 * Translates the graphics object from screen space to world space by the interpolated position of the camera.
+	 * When a render list is being recorded, the commands drawn until endWorldSpace are marked to move with the camera,
+	 * so that the camera can be interpolated when the list is drawn.
+	 * @param g the graphics object to translate
+	 */
+	public void beginWorldSpace(Graphics g) {
+		worldSpaceX = camera.getX(interpolation);
+		worldSpaceY = camera.getY(interpolation);
+		g.translate(-worldSpaceX, -worldSpaceY);
+		if (g instanceof RecordingGraphics)
+			((RecordingGraphics) g).setFollowsCamera(true);
+	}
+	
+	/**
+	 * Translates the graphics object back to screen space after beginWorldSpace.
+	 * @param g the graphics object to translate
+	 */
+	public void endWorldSpace(Graphics g) {
+		g.translate(worldSpaceX, worldSpaceY);
+		if (g instanceof RecordingGraphics)
+			((RecordingGraphics) g).setFollowsCamera(false);
+	}
+	
+	// Draws the dynamic objects of a layer, skipping the ones the camera can't see if a camera is given
+	private void renderLayer(Graphics g, List<GameObject> objects, int layer, Camera camera) {
+		// Recorded creatures remember how they moved, so that the render list can interpolate them
+		RecordingGraphics recorder = g instanceof RecordingGraphics ? (RecordingGraphics) g : null;
+		if (profiler.isEnabled()) {
+			for (int i = objects.size() - 1; i >= 0; i--) {
+				GameObject object = objects.get(i);
+				if (object.isStatic() || (camera != null && !camera.isVisible(object)))
+					continue;
+				long startTime = System.nanoTime();
+				if (recorder != null)
+					recordMotion(recorder, object);
+				object.render(g);
+				profiler.record(ObjectProfiler.RENDER, layer, object, System.nanoTime() - startTime);
+			}
+		}
+		else {
+			for (int i = objects.size() - 1; i >= 0; i--) {
+				GameObject object = objects.get(i);
+				if (object.isStatic() || (camera != null && !camera.isVisible(object)))
+					continue;
+				if (recorder != null)
+					recordMotion(recorder, object);
+				object.render(g);
+			}
+		}
+		if (recorder != null)
+			recorder.setMotion(0, 0, 0, 0);
+	}
+	
+	private void recordMotion(RecordingGraphics recorder, GameObject object) {
+		if (object instanceof Creature) {
+			Creature creature = (Creature) object;
+			recorder.setMotion(creature.getX(), creature.getY(), creature.getMotionX(), creature.getMotionY());
+		}
+		else
+			recorder.setMotion(0, 0, 0, 0);
 	}
 
 	/**
-	 * Add an object into the current room
+	 * Add an object into the current room.
+	 * Objects that are added while the layers are being updated are added after the update.
 	 * @param object the object to be added
 	 * @param layer the layer to add the object into
 	 */
@@ -231,53 +364,24 @@ public class ObjectHandler {
 		if (floor == null)
 			return;
 		
-		Room currentRoom = floor.getCurrentRoom();
-		switch(layer) {
-		case BOTTOM_LAYER:
-			currentRoom.getBottomLayer().add(object);
-			break;
-		case MIDDLE_LAYER:
-			currentRoom.getMiddleLayer().add(object);
-			break;
-		case TOP_LAYER:
-			currentRoom.getTopLayer().add(object);
-			break;
-		case MENU_LAYER:
-			menuLayer.add(object);
-			break;
-		}
-		
-		if (object != null && object.compareCategory(Category.FriendlySummon))
-			summonsList.add((Creature) object);
+		if (updatingLayers)
+			commandBuffer.add(object, layer);
+		else
+			applyAddition(object, layer);
 	}
 
 	/**
-	 * Remove a game object from the current room
+	 * Remove a game object from the current room.
+	 * Objects that are removed while the layers are being updated are removed after the update.
 	 * @param object the object to be removed
 	 */
 	public void removeObject(GameObject object) {
-		if (floor == null)
-			return;
-		
-		Room currentRoom = floor.getCurrentRoom();
-		if (currentRoom.getMiddleLayer().contains(object))
-			currentRoom.getMiddleLayer().remove(object);
-		else if (currentRoom.getBottomLayer().contains(object))
-			currentRoom.getBottomLayer().remove(object);
-		else if (currentRoom.getTopLayer().contains(object))
-			currentRoom.getTopLayer().remove(object);
-		else if (menuLayer.contains(object))
-			menuLayer.remove(object);
-		
-		if (object != null && object.compareCategory(Category.FriendlySummon))
-			summonsList.remove((Creature) object);
-		
-		if (object.compareCategory(Category.Enemy))
-			currentRoom.removeEnemyFromCurrentWave((Creature) object);
+		removeObjectFromLayer(object, ObjectCommandBuffer.ANY_LAYER);
 	}
 	
 	/**
 	 * Remove an object from the current floor, from the given layer.
+	 * Objects that are removed while the layers are being updated are removed after the update.
 	 * @param object the object to be removed
 	 * @param layer the layer to remove the object from
 	 */
@@ -285,31 +389,113 @@ public class ObjectHandler {
 		if (floor == null)
 			return;
 		
+		if (updatingLayers)
+			commandBuffer.remove(object, layer);
+		else
+			applyRemoval(object, layer);
+	}
+	
+	// Applies the additions and removals that were recorded during the update, in the order they were made in
+	private void applyCommands() {
+		for (int i = 0; i < commandBuffer.size(); i++) {
+			if (commandBuffer.isAddition(i))
+				applyAddition(commandBuffer.getObject(i), commandBuffer.getLayer(i));
+			else
+				applyRemoval(commandBuffer.getObject(i), commandBuffer.getLayer(i));
+		}
+		commandBuffer.clear();
+	}
+	
+	private void applyAddition(GameObject object, int layer) {
 		Room currentRoom = floor.getCurrentRoom();
-		switch (layer) {
+		switch(layer) {
 		case BOTTOM_LAYER:
-			if (currentRoom.getBottomLayer().contains(object))
-				currentRoom.getBottomLayer().remove(object);
+			addToLayer(currentRoom.getBottomLayer(), object);
 			break;
 		case MIDDLE_LAYER:
-			if (currentRoom.getMiddleLayer().contains(object))
-				currentRoom.getMiddleLayer().remove(object);
+			currentRoom.addToMiddleLayer(object);
 			break;
 		case TOP_LAYER:
-			if (currentRoom.getTopLayer().contains(object))
-				currentRoom.getTopLayer().remove(object);
+			addToLayer(currentRoom.getTopLayer(), object);
 			break;
 		case MENU_LAYER:
-			if (menuLayer.contains(object))
-				menuLayer.remove(object);
+			addToLayer(menuLayer, object);
 			break;
 		}
 		
+		if (object != null && object.isStatic())
+			currentRoom.getStaticLayerCache().invalidate();
 		if (object != null && object.compareCategory(Category.FriendlySummon))
 			summonsList.add((Creature) object);
+	}
+	
+	private void applyRemoval(GameObject object, int layer) {
+		Room currentRoom = floor.getCurrentRoom();
+		boolean removed = false;
+		if (layer == MIDDLE_LAYER || layer == ObjectCommandBuffer.ANY_LAYER)
+			removed = currentRoom.removeFromMiddleLayer(object);
+		if (!removed && (layer == BOTTOM_LAYER || layer == ObjectCommandBuffer.ANY_LAYER))
+			removed = removeFromLayer(currentRoom.getBottomLayer(), object);
+		if (!removed && (layer == TOP_LAYER || layer == ObjectCommandBuffer.ANY_LAYER))
+			removed = removeFromLayer(currentRoom.getTopLayer(), object);
+		if (!removed && (layer == MENU_LAYER || layer == ObjectCommandBuffer.ANY_LAYER))
+			removed = removeFromLayer(menuLayer, object);
+		// An object can be removed more than once during an update, only the first removal counts
+		if (!removed)
+			return;
+		
+		if (object.isStatic())
+			currentRoom.getStaticLayerCache().invalidate();
+		if (object.compareCategory(Category.FriendlySummon))
+			summonsList.remove((Creature) object);
 		
 		if (object.compareCategory(Category.Enemy))
 			currentRoom.removeEnemyFromCurrentWave((Creature) object);
+		
+		if (object.getPool() != null)
+			object.getPool().release(object);
+	}
+	
+	/**
+	 * Adds an object to the end of a layer and remembers its index in the layer.
+	 * @param objects the objects of the layer
+	 * @param object the object to add
+	 */
+	public static void addToLayer(List<GameObject> objects, GameObject object) {
+		object.setLayerIndex(objects.size());
+		objects.add(object);
+	}
+	
+	/**
+	 * Removes an object from a layer without searching for it, by moving the last object of the layer into its place.
+	 * This changes the order of the layer.
+	 * @param objects the objects of the layer
+	 * @param object the object to remove
+	 * @return true if the object was in the layer, false otherwise
+	 */
+	public static boolean removeFromLayer(List<GameObject> objects, GameObject object) {
+		if (object == null)
+			return false;
+		int index = object.getLayerIndex();
+		if (index < 0 || index >= objects.size() || objects.get(index) != object)
+			return false;
+		
+		GameObject lastObject = objects.remove(objects.size() - 1);
+		if (lastObject != object) {
+			objects.set(index, lastObject);
+			lastObject.setLayerIndex(index);
+		}
+		object.setLayerIndex(-1);
+		return true;
+	}
+	
+	/**
+	 * Remembers the index of every object in a layer that was filled without addToLayer.
+	 * @param objects the objects of the layer
+	 */
+	public static void updateLayerIndexes(List<GameObject> objects) {
+		for (int i = 0; i < objects.size(); i++)
+			objects.get(i).setLayerIndex(i);
 	}
 	
 	/**
@@ -343,20 +529,80 @@ public class ObjectHandler {
 	 * @param exitLocationToNeighbor the location of the exit leading to the neighbor
 	 */
 	public void loadNeighboringRoom(RoomExit roomExit, RoomDirection exitLocationToNeighbor) {
-		floor.getCurrentRoom().getMiddleLayer().remove(player);
+		// The layers of the room that is left can't change while they are updated
+		if (updatingLayers) {
+			if (pendingRoomDirection == null)
+				pendingRoomDirection = exitLocationToNeighbor;
+			return;
+		}
+		enterNeighboringRoom(exitLocationToNeighbor);
+	}
+	
+	private void enterNeighboringRoom(RoomDirection exitLocationToNeighbor) {
+		floor.getCurrentRoom().removeFromMiddleLayer(player);
+		// Free the cached images of the room that is left, they are drawn again if the player comes back
+		floor.getCurrentRoom().getStaticLayerCache().invalidate();
 		floor.loadNextRoom(exitLocationToNeighbor);
-		floor.getCurrentRoom().getMiddleLayer().add(player);
 		// Move the player to the corresponding spawn location of the next rooms exit
 		RoomDirection oppositeExitLocation = RoomDirection.getOppositeDirection(exitLocationToNeighbor);
 		PlayerExitDestination playerExitDestination = floor.getCurrentRoom().getPlayerExitDestination(oppositeExitLocation);
 		player.setX(playerExitDestination.getX());
 		player.setY(playerExitDestination.getY());
+		floor.getCurrentRoom().addToMiddleLayer(player);
+		// Don't interpolate the player between the two rooms
+		player.savePreviousPosition();
+		followPlayerIntoRoom();
+	}
+	
+	// Fits the camera to the size of the current room and moves it to the player without easing
+	private void followPlayerIntoRoom() {
+		Room currentRoom = floor.getCurrentRoom();
+		camera.setWorldSize(currentRoom.getWidth(), currentRoom.getHeight());
+		camera.snapTo(player);
+	}
+	
+	/**
+	 * Returns the collision flags of the current room's tiles.
+	 * @return the tile map of the current room
+	 */
+	public TileMap getTileMap() {
+		return floor.getCurrentRoom().getTileMap();
+	}
+	
+	/**
+	 * Returns the objects of the current room's middle layer with the given category.
+	 * The list should not be modified, objects are added and removed through addObject and removeObject.
+	 * @param category the category of the objects
+	 * @return the objects with the given category
+	 */
+	public List<GameObject> getObjectsByCategory(Category category) {
+		return floor.getCurrentRoom().getMiddleLayer(category);
+	}
+	
+	/**
+	 * Returns the grid of the current room's middle layer, which can be used to find the objects near an area.
+	 * @return the spatial hash grid of the current room
+	 */
+	public SpatialHashGrid getSpatialGrid() {
+		return floor.getCurrentRoom().getSpatialGrid();
+	}
+	
+	public ObjectProfiler getProfiler() {
+		return profiler;
+	}
+	
+	public float getInterpolation() {
+		return interpolation;
 	}
 	
 	public ArrayList<Creature> getSummonsList() {
 		return summonsList;
 	}
 	
+	public ObjectPools getObjectPools() {
+		return objectPools;
+	}
+	
 	public GameObject createObjectByName(Name objectName, int x, int y) {
 		GameObject gameObject = null;
 		
@@ -523,7 +769,7 @@ public class ObjectHandler {
 			gameObject = new WoodJumpThroughTileBlock(x, y, objectName, TileOrientation.OuterRight);
 			break;
 		case Coin:
-			gameObject = new Coin(x, y, this);
+			gameObject = objectPools.obtainCoin(x, y);
 			break;
 		case Missing:
 			break;
@@ -610,4 +856,16 @@ public class ObjectHandler {
 		return inventory;
 	}
 	
+	public Floor getFloor() {
+		return floor;
+	}
+	
+	public Camera getCamera() {
+		return camera;
+	}
+	
+	public CombatTextManager getCombatTextManager() {
+		return combatTextManager;
+	}
+	
 }
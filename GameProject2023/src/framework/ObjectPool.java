@@ -0,0 +1,72 @@
+package framework;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import abstracts.GameObject;
+
+public class ObjectPool<T extends GameObject> {
+
+	private final String name;
+	private final List<T> freeObjects = new ArrayList<>();
+	private int hits, misses;
+
+	/**
+	 * The ObjectPool class keeps the objects of one type that were removed from the game,
+	 * so that they can be reset and added again instead of creating a new object every time.
+	 * Objects are returned to their pool by the ObjectHandler when they are removed from their layer.
+	 * @param name the name of the pool, shown on the debug overlay
+	 */
+	public ObjectPool(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Takes a removed object out of the pool. The object has to be reset by the caller before it is used.
+	 * @return a removed object, or null if the pool is empty and a new object has to be created with register
+	 */
+	public T obtain() {
+		if (freeObjects.isEmpty()) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return freeObjects.remove(freeObjects.size() - 1);
+	}
+
+	/**
+	 * Marks a newly created object as belonging to this pool, so that it is returned here after it is removed.
+	 * @param object the new object
+	 * @return the same object
+	 */
+	public T register(T object) {
+		object.setPool(this);
+		return object;
+	}
+
+	/**
+	 * Returns a removed object to the pool. Called by the ObjectHandler, the object should not be used afterwards.
+	 * @param object the object to return, which must have been registered to this pool
+	 */
+	@SuppressWarnings("unchecked")
+	public void release(GameObject object) {
+		freeObjects.add((T) object);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getHits() {
+		return hits;
+	}
+
+	public int getMisses() {
+		return misses;
+	}
+
+	public int getFreeCount() {
+		return freeObjects.size();
+	}
+
+}
@@ -0,0 +1,112 @@
+package framework;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import framework.ObjectId.Category;
+import framework.TextureLoader.TextureName;
+import game_objects.ArrowProjectile;
+import game_objects.Explosion;
+import items.Coin;
+import player_weapons.abilities.ChainSpikeAttack;
+import visual_effects.FadingTrailEffect;
+import visual_effects.OneTimeAnimation;
+
+public class ObjectPools {
+
+	private ObjectHandler objectHandler;
+
+	private final ObjectPool<OneTimeAnimation> oneTimeAnimationPool = new ObjectPool<>("OneTimeAnimation");
+	private final ObjectPool<FadingTrailEffect> fadingTrailEffectPool = new ObjectPool<>("FadingTrailEffect");
+	private final ObjectPool<Explosion> explosionPool = new ObjectPool<>("Explosion");
+	private final ObjectPool<ArrowProjectile> arrowProjectilePool = new ObjectPool<>("ArrowProjectile");
+	private final ObjectPool<ChainSpikeAttack> chainSpikeAttackPool = new ObjectPool<>("ChainSpikeAttack");
+	private final ObjectPool<Coin> coinPool = new ObjectPool<>("Coin");
+	private final List<ObjectPool<?>> pools = new ArrayList<>();
+
+	/**
+	 * The ObjectPools class creates the short lived effects and projectiles that are spawned during combat.
+	 * Each type has its own ObjectPool, and objects are reused from it when possible.
+	 * The objects are returned to their pools by the ObjectHandler when they are removed,
+	 * so they should not be kept by other objects after they remove themselves.
+	 * @param objectHandler reference to the ObjectHandler
+	 */
+	public ObjectPools(ObjectHandler objectHandler) {
+		this.objectHandler = objectHandler;
+
+		pools.add(oneTimeAnimationPool);
+		pools.add(fadingTrailEffectPool);
+		pools.add(explosionPool);
+		pools.add(arrowProjectilePool);
+		pools.add(chainSpikeAttackPool);
+		pools.add(coinPool);
+	}
+
+	public OneTimeAnimation obtainOneTimeAnimation(float x, float y, int width, int height,
+			TextureName textureName, int animationDelay) {
+		OneTimeAnimation oneTimeAnimation = oneTimeAnimationPool.obtain();
+		if (oneTimeAnimation == null)
+			return oneTimeAnimationPool.register(new OneTimeAnimation(x, y, width, height, textureName, animationDelay, objectHandler));
+		oneTimeAnimation.reset(x, y, width, height, textureName, animationDelay);
+		return oneTimeAnimation;
+	}
+
+	public FadingTrailEffect obtainFadingTrailEffect(float x, float y, int width, int height,
+			BufferedImage image, float initialAlpha, float fadingRate) {
+		FadingTrailEffect fadingTrailEffect = fadingTrailEffectPool.obtain();
+		if (fadingTrailEffect == null)
+			return fadingTrailEffectPool.register(new FadingTrailEffect(x, y, width, height, image, initialAlpha, fadingRate, objectHandler));
+		fadingTrailEffect.reset(x, y, width, height, image, initialAlpha, fadingRate);
+		return fadingTrailEffect;
+	}
+
+	/**
+	 * Creates an explosion together with its animation, which is added to the top layer.
+	 * The animation belongs to the explosion and is reused with it, so it is not taken from the animation pool.
+	 * @param animationDamageFrames the indices of the animation where the explosion will deal damage at,
+	 * 		or null to deal damage on every frame
+	 */
+	public Explosion obtainExplosion(float x, float y, int width, int height, TextureName textureName, int animationDelay,
+			int[] animationDamageFrames, int damage, Category[] targetCategories) {
+		Explosion explosion = explosionPool.obtain();
+		if (explosion == null) {
+			OneTimeAnimation oneTimeAnimation = new OneTimeAnimation(x, y, width, height, textureName, animationDelay, objectHandler);
+			return explosionPool.register(new Explosion(oneTimeAnimation, animationDamageFrames, damage, targetCategories, objectHandler));
+		}
+		explosion.reset(x, y, width, height, textureName, animationDelay, animationDamageFrames, damage, targetCategories);
+		return explosion;
+	}
+
+	public ArrowProjectile obtainArrowProjectile(float x, float y, float velX, float velY, int damage) {
+		ArrowProjectile arrowProjectile = arrowProjectilePool.obtain();
+		if (arrowProjectile == null)
+			return arrowProjectilePool.register(new ArrowProjectile(x, y, velX, velY, damage, objectHandler));
+		arrowProjectile.reset(x, y, velX, velY, damage);
+		return arrowProjectile;
+	}
+
+	public ChainSpikeAttack obtainChainSpikeAttack(float x, float y, int direction) {
+		ChainSpikeAttack chainSpikeAttack = chainSpikeAttackPool.obtain();
+		if (chainSpikeAttack == null)
+			return chainSpikeAttackPool.register(new ChainSpikeAttack(x, y, direction, objectHandler));
+		chainSpikeAttack.reset(x, y, direction);
+		return chainSpikeAttack;
+	}
+
+	public Coin obtainCoin(float x, float y) {
+		Coin coin = coinPool.obtain();
+		if (coin == null)
+			return coinPool.register(new Coin(x, y, objectHandler));
+		coin.reset(x, y);
+		return coin;
+	}
+
+	/**
+	 * @return every pool, used to show their hit and miss counts
+	 */
+	public List<ObjectPool<?>> getPools() {
+		return pools;
+	}
+
+}
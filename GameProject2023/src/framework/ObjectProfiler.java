@@ -0,0 +1,136 @@
+package framework;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+import abstracts.GameObject;
+
+public class ObjectProfiler {
+
+	public static final int TICK = 0;
+	public static final int RENDER = 1;
+
+	private static final String[] LAYER_NAMES = {"Bottom", "Middle", "Top", "Menu"};
+	private static final long REPORT_INTERVAL_NANOS = 1_000_000_000L;
+
+	private class CostEntry {
+		String name;
+		long[] nanos = new long[2];
+		int[] calls = new int[2];
+
+		long totalNanos() {
+			return nanos[TICK] + nanos[RENDER];
+		}
+	}
+
+	private boolean enabled = false;
+	private int topCount;
+
+	private HashMap<Class<?>, CostEntry> classCosts = new HashMap<>();
+	private List<CostEntry> sortedCosts = new ArrayList<>();
+	private long[][] layerNanos = new long[2][LAYER_NAMES.length];
+	private long reportStartTime;
+
+	// Rebuilt once per report interval so that the DebugConsole doesn't create strings every frame
+	private volatile String[] reportLines = new String[0];
+
+	/**
+	 * The ObjectProfiler class adds up how much time is spent updating and rendering each concrete
+	 * GameObject class and each layer. The totals of the last second are sorted and can be displayed
+	 * to find out which objects are the most expensive.
+	 * It is disabled by default, and the ObjectHandler does not call it at all while it is disabled.
+	 *
+	 * @param topCount the number of most expensive classes to include in the report
+	 */
+	public ObjectProfiler(int topCount) {
+		this.topCount = topCount;
+	}
+
+	/**
+	 * Adds the cost of a single tick or render call to the totals.
+	 * @param phase TICK or RENDER
+	 * @param layer the layer that the object is in
+	 * @param object the object that was updated or rendered
+	 * @param nanos the time that the call took, in nanoseconds
+	 */
+	public void record(int phase, int layer, GameObject object, long nanos) {
+		Class<?> type = object.getClass();
+		CostEntry entry = classCosts.get(type);
+		if (entry == null) {
+			entry = new CostEntry();
+			entry.name = type.getSimpleName();
+			classCosts.put(type, entry);
+		}
+		entry.nanos[phase] += nanos;
+		entry.calls[phase]++;
+		layerNanos[phase][layer] += nanos;
+	}
+
+	/**
+	 * Builds a new report from the collected totals and starts collecting again once the
+	 * report interval has passed. This should be called once per update.
+	 */
+	public void update() {
+		long currentTime = System.nanoTime();
+		if (currentTime - reportStartTime < REPORT_INTERVAL_NANOS)
+			return;
+
+		sortedCosts.clear();
+		sortedCosts.addAll(classCosts.values());
+		sortedCosts.sort((a, b) -> Long.compare(b.totalNanos(), a.totalNanos()));
+
+		int classLines = Math.min(topCount, sortedCosts.size());
+		String[] lines = new String[classLines + LAYER_NAMES.length];
+		for (int i = 0; i < classLines; i++) {
+			CostEntry entry = sortedCosts.get(i);
+			lines[i] = String.format(Locale.ROOT, "%s: tick %.2f ms (%d), render %.2f ms (%d)", entry.name,
+					toMillis(entry.nanos[TICK]), entry.calls[TICK], toMillis(entry.nanos[RENDER]), entry.calls[RENDER]);
+		}
+		for (int i = 0; i < LAYER_NAMES.length; i++)
+			lines[classLines + i] = String.format(Locale.ROOT, "%s layer: tick %.2f ms, render %.2f ms",
+					LAYER_NAMES[i], toMillis(layerNanos[TICK][i]), toMillis(layerNanos[RENDER][i]));
+		reportLines = lines;
+
+		reset(currentTime);
+	}
+
+	private void reset(long currentTime) {
+		classCosts.clear();
+		for (long[] phaseNanos : layerNanos)
+			for (int i = 0; i < phaseNanos.length; i++)
+				phaseNanos[i] = 0;
+		reportStartTime = currentTime;
+	}
+
+	private double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the profiler. The collected totals are discarded when the state changes.
+	 * @param enabled whether the costs should be collected
+	 */
+	public void setEnabled(boolean enabled) {
+		if (this.enabled == enabled)
+			return;
+		this.enabled = enabled;
+		reset(System.nanoTime());
+		reportLines = new String[0];
+	}
+
+	/**
+	 * Returns the report of the last full interval. Contains the most expensive classes sorted by
+	 * their total cost, followed by the cost of each layer. Times are totals over one second.
+	 * @return the lines of the report
+	 */
+	public String[] getReportLines() {
+		return reportLines;
+	}
+
+}
@@ -0,0 +1,636 @@
+package framework;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+import framework.RenderList.CommandType;
+import framework.RenderList.RenderCommand;
+
+public class RecordingGraphics extends Graphics2D {
+
+	private static final Font DEFAULT_FONT = new Font(Font.DIALOG, Font.PLAIN, 12);
+	private static final Stroke DEFAULT_STROKE = new BasicStroke();
+	// Shared by every reset so that recording a frame doesn't allocate, it is never modified
+	private static final RenderingHints DEFAULT_RENDERING_HINTS = new RenderingHints(null);
+
+	// Used for the queries that need a real graphics context, such as font metrics
+	private static final Graphics2D scratchGraphics =
+			new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+	private RenderList renderList;
+
+	private final AffineTransform transform = new AffineTransform();
+	private Composite composite;
+	private Color color;
+	private Color background;
+	private Font font;
+	private Stroke stroke;
+	// Replaced instead of modified when a hint changes, since recorded commands share it
+	private RenderingHints renderingHints;
+	// The color of the XOR mode, null while drawing in paint mode
+	private Color xorColor;
+	// The clip in the untransformed space of the render list, null if there is no clip
+	private Shape clip;
+	// How the commands drawn next are moved when the list is interpolated
+	private float objectX, objectY, motionX, motionY;
+	private boolean followsCamera;
+
+	/**
+	 * The RecordingGraphics class is a Graphics2D implementation that does not draw anything.
+	 * Instead, it records the draw calls made with it into a RenderList, along with the state
+	 * they were made with, so that the list can be drawn later on another thread.
+	 * Rendering hints, the XOR mode and area copies are recorded as well,
+	 * so that replaying the list draws the same as drawing directly would.
+	 * The list is recorded at the latest update, and every command remembers how its object
+	 * and the camera moved during that update, so that the list can be interpolated when it is drawn.
+	 */
+	public RecordingGraphics() {
+		reset(null);
+	}
+
+	/**
+	 * Clears the graphics state and starts recording into the given list.
+	 * @param renderList the list to record draw calls into
+	 */
+	public void reset(RenderList renderList) {
+		this.renderList = renderList;
+		transform.setToIdentity();
+		composite = AlphaComposite.SrcOver;
+		color = Color.BLACK;
+		background = Color.BLACK;
+		font = DEFAULT_FONT;
+		stroke = DEFAULT_STROKE;
+		renderingHints = DEFAULT_RENDERING_HINTS;
+		xorColor = null;
+		clip = null;
+		objectX = objectY = motionX = motionY = 0;
+		followsCamera = false;
+	}
+
+	/**
+	 * Sets where the object that is drawn next is, and how far it moved during the last update.
+	 * When the list is drawn between two updates, the commands of the object are moved back along this distance.
+	 * The position is used to round the interpolated position the same way as the object itself does.
+	 * @param objectX the x coordinate of the object
+	 * @param objectY the y coordinate of the object
+	 * @param motionX the distance moved on the x axis
+	 * @param motionY the distance moved on the y axis
+	 */
+	public void setMotion(float objectX, float objectY, float motionX, float motionY) {
+		this.objectX = objectX;
+		this.objectY = objectY;
+		this.motionX = motionX;
+		this.motionY = motionY;
+	}
+
+	/**
+	 * Sets whether the commands drawn next are in world space, and move with the camera when the list is interpolated.
+	 * @param followsCamera true while drawing in world space, false while drawing in screen space
+	 */
+	public void setFollowsCamera(boolean followsCamera) {
+		this.followsCamera = followsCamera;
+	}
+
+	private RenderCommand record(CommandType type) {
+		RenderCommand command = renderList.nextCommand(type);
+		command.transform.setTransform(transform);
+		command.composite = composite;
+		command.color = color;
+		command.font = font;
+		command.stroke = stroke;
+		command.renderingHints = renderingHints;
+		command.xorColor = xorColor;
+		command.clip = clip;
+		command.objectX = objectX;
+		command.objectY = objectY;
+		command.motionX = motionX;
+		command.motionY = motionY;
+		command.followsCamera = followsCamera;
+		command.image = null;
+		command.text = null;
+		command.shape = null;
+		return command;
+	}
+
+	/*
+	 * Drawing
+	 */
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+		if (img == null)
+			return true;
+		return drawImage(img, x, y, img.getWidth(null), img.getHeight(null), observer);
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+		if (img == null)
+			return true;
+		RenderCommand command = record(CommandType.Image);
+		command.image = img;
+		command.x1 = x;
+		command.y1 = y;
+		command.x2 = width;
+		command.y2 = height;
+		return true;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+		if (img == null)
+			return true;
+		return drawImage(img, x, y, img.getWidth(null), img.getHeight(null), bgcolor, observer);
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor, ImageObserver observer) {
+		fillBackground(bgcolor, x, y, width, height);
+		return drawImage(img, x, y, width, height, observer);
+	}
+
+	@Override
+	public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2,
+			int sx1, int sy1, int sx2, int sy2, ImageObserver observer) {
+		if (img == null)
+			return true;
+		RenderCommand command = record(CommandType.ImageRegion);
+		command.image = img;
+		command.x1 = dx1;
+		command.y1 = dy1;
+		command.x2 = dx2;
+		command.y2 = dy2;
+		command.sx1 = sx1;
+		command.sy1 = sy1;
+		command.sx2 = sx2;
+		command.sy2 = sy2;
+		return true;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2,
+			int sx1, int sy1, int sx2, int sy2, Color bgcolor, ImageObserver observer) {
+		fillBackground(bgcolor, Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1), Math.abs(dy2 - dy1));
+		return drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer);
+	}
+
+	// The background color of an image is drawn as a rectangle behind it
+	private void fillBackground(Color bgcolor, int x, int y, int width, int height) {
+		if (bgcolor == null)
+			return;
+		Color oldColor = color;
+		color = bgcolor;
+		fillRect(x, y, width, height);
+		color = oldColor;
+	}
+
+	@Override
+	public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+		AffineTransform oldTransform = getTransform();
+		transform(xform);
+		drawImage(img, 0, 0, obs);
+		setTransform(oldTransform);
+		return true;
+	}
+
+	@Override
+	public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+		drawImage(op == null ? img : op.filter(img, null), x, y, null);
+	}
+
+	@Override
+	public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+		if (img instanceof Image)
+			drawImage((Image) img, xform, null);
+	}
+
+	@Override
+	public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+		drawRenderedImage(img.createDefaultRendering(), xform);
+	}
+
+	@Override
+	public void fillRect(int x, int y, int width, int height) {
+		RenderCommand command = record(CommandType.FillRect);
+		command.x1 = x;
+		command.y1 = y;
+		command.x2 = width;
+		command.y2 = height;
+	}
+
+	@Override
+	public void drawRect(int x, int y, int width, int height) {
+		RenderCommand command = record(CommandType.DrawRect);
+		command.x1 = x;
+		command.y1 = y;
+		command.x2 = width;
+		command.y2 = height;
+	}
+
+	@Override
+	public void clearRect(int x, int y, int width, int height) {
+		Color oldColor = color;
+		color = background;
+		fillRect(x, y, width, height);
+		color = oldColor;
+	}
+
+	@Override
+	public void drawString(String str, int x, int y) {
+		drawString(str, (float) x, (float) y);
+	}
+
+	@Override
+	public void drawString(String str, float x, float y) {
+		RenderCommand command = record(CommandType.String);
+		command.text = str;
+		command.textX = x;
+		command.textY = y;
+	}
+
+	@Override
+	public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+		drawString(iterator, (float) x, (float) y);
+	}
+
+	@Override
+	public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+		StringBuilder text = new StringBuilder();
+		for (char c = iterator.first(); c != AttributedCharacterIterator.DONE; c = iterator.next())
+			text.append(c);
+		drawString(text.toString(), x, y);
+	}
+
+	@Override
+	public void drawGlyphVector(GlyphVector glyphVector, float x, float y) {
+		fill(glyphVector.getOutline(x, y));
+	}
+
+	@Override
+	public void draw(Shape shape) {
+		RenderCommand command = record(CommandType.DrawShape);
+		command.shape = copyShape(shape);
+	}
+
+	@Override
+	public void fill(Shape shape) {
+		RenderCommand command = record(CommandType.FillShape);
+		command.shape = copyShape(shape);
+	}
+
+	// Shapes such as Rectangles are mutable, so a copy is stored
+	private Shape copyShape(Shape shape) {
+		if (shape instanceof Rectangle)
+			return new Rectangle((Rectangle) shape);
+		return new Path2D.Float(shape);
+	}
+
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2) {
+		draw(new Line2D.Float(x1, y1, x2, y2));
+	}
+
+	@Override
+	public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		draw(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+	}
+
+	@Override
+	public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		fill(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+	}
+
+	@Override
+	public void drawOval(int x, int y, int width, int height) {
+		draw(new Ellipse2D.Float(x, y, width, height));
+	}
+
+	@Override
+	public void fillOval(int x, int y, int width, int height) {
+		fill(new Ellipse2D.Float(x, y, width, height));
+	}
+
+	@Override
+	public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+		draw(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.OPEN));
+	}
+
+	@Override
+	public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+		fill(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.PIE));
+	}
+
+	@Override
+	public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+		for (int i = 1; i < nPoints; i++)
+			drawLine(xPoints[i - 1], yPoints[i - 1], xPoints[i], yPoints[i]);
+	}
+
+	@Override
+	public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+		draw(new Polygon(xPoints, yPoints, nPoints));
+	}
+
+	@Override
+	public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+		fill(new Polygon(xPoints, yPoints, nPoints));
+	}
+
+	@Override
+	public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+		// Copies what the earlier commands of the list have drawn by the time it is replayed
+		RenderCommand command = record(CommandType.CopyArea);
+		command.x1 = x;
+		command.y1 = y;
+		command.x2 = width;
+		command.y2 = height;
+		command.sx1 = dx;
+		command.sy1 = dy;
+	}
+
+	@Override
+	public boolean hit(Rectangle rect, Shape shape, boolean onStroke) {
+		Shape deviceShape = transform.createTransformedShape(onStroke ? stroke.createStrokedShape(shape) : shape);
+		return deviceShape.intersects(rect);
+	}
+
+	/*
+	 * Graphics state
+	 */
+
+	@Override
+	public Graphics create() {
+		RecordingGraphics copy = new RecordingGraphics();
+		copy.renderList = renderList;
+		copy.transform.setTransform(transform);
+		copy.composite = composite;
+		copy.color = color;
+		copy.background = background;
+		copy.font = font;
+		copy.stroke = stroke;
+		copy.renderingHints = renderingHints;
+		copy.xorColor = xorColor;
+		copy.clip = clip;
+		copy.objectX = objectX;
+		copy.objectY = objectY;
+		copy.motionX = motionX;
+		copy.motionY = motionY;
+		copy.followsCamera = followsCamera;
+		return copy;
+	}
+
+	@Override
+	public void dispose() {}
+
+	@Override
+	public void translate(int x, int y) {
+		transform.translate(x, y);
+	}
+
+	@Override
+	public void translate(double tx, double ty) {
+		transform.translate(tx, ty);
+	}
+
+	@Override
+	public void rotate(double theta) {
+		transform.rotate(theta);
+	}
+
+	@Override
+	public void rotate(double theta, double x, double y) {
+		transform.rotate(theta, x, y);
+	}
+
+	@Override
+	public void scale(double sx, double sy) {
+		transform.scale(sx, sy);
+	}
+
+	@Override
+	public void shear(double shx, double shy) {
+		transform.shear(shx, shy);
+	}
+
+	@Override
+	public void transform(AffineTransform tx) {
+		transform.concatenate(tx);
+	}
+
+	@Override
+	public void setTransform(AffineTransform tx) {
+		transform.setTransform(tx);
+	}
+
+	@Override
+	public AffineTransform getTransform() {
+		return new AffineTransform(transform);
+	}
+
+	@Override
+	public Color getColor() {
+		return color;
+	}
+
+	@Override
+	public void setColor(Color c) {
+		if (c != null)
+			color = c;
+	}
+
+	@Override
+	public Paint getPaint() {
+		return color;
+	}
+
+	@Override
+	public void setPaint(Paint paint) {
+		if (paint instanceof Color)
+			color = (Color) paint;
+	}
+
+	@Override
+	public void setPaintMode() {
+		composite = AlphaComposite.SrcOver;
+		xorColor = null;
+	}
+
+	@Override
+	public void setXORMode(Color c1) {
+		xorColor = c1;
+	}
+
+	@Override
+	public Composite getComposite() {
+		return composite;
+	}
+
+	@Override
+	public void setComposite(Composite comp) {
+		composite = comp;
+		xorColor = null;
+	}
+
+	@Override
+	public Color getBackground() {
+		return background;
+	}
+
+	@Override
+	public void setBackground(Color color) {
+		background = color;
+	}
+
+	@Override
+	public Font getFont() {
+		return font;
+	}
+
+	@Override
+	public void setFont(Font font) {
+		if (font != null)
+			this.font = font;
+	}
+
+	@Override
+	public FontMetrics getFontMetrics(Font f) {
+		synchronized (scratchGraphics) {
+			return scratchGraphics.getFontMetrics(f);
+		}
+	}
+
+	@Override
+	public FontRenderContext getFontRenderContext() {
+		synchronized (scratchGraphics) {
+			return scratchGraphics.getFontRenderContext();
+		}
+	}
+
+	@Override
+	public GraphicsConfiguration getDeviceConfiguration() {
+		synchronized (scratchGraphics) {
+			return scratchGraphics.getDeviceConfiguration();
+		}
+	}
+
+	@Override
+	public Stroke getStroke() {
+		return stroke;
+	}
+
+	@Override
+	public void setStroke(Stroke s) {
+		stroke = s;
+	}
+
+	@Override
+	public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue) {
+		RenderingHints hints = (RenderingHints) renderingHints.clone();
+		hints.put(hintKey, hintValue);
+		renderingHints = hints;
+	}
+
+	@Override
+	public Object getRenderingHint(RenderingHints.Key hintKey) {
+		return renderingHints.get(hintKey);
+	}
+
+	@Override
+	public void setRenderingHints(Map<?, ?> hints) {
+		RenderingHints newHints = new RenderingHints(null);
+		newHints.putAll(hints);
+		renderingHints = newHints;
+	}
+
+	@Override
+	public void addRenderingHints(Map<?, ?> hints) {
+		RenderingHints combinedHints = (RenderingHints) renderingHints.clone();
+		combinedHints.putAll(hints);
+		renderingHints = combinedHints;
+	}
+
+	@Override
+	public RenderingHints getRenderingHints() {
+		return (RenderingHints) renderingHints.clone();
+	}
+
+	/*
+	 * Clipping
+	 */
+
+	@Override
+	public Shape getClip() {
+		if (clip == null)
+			return null;
+		try {
+			return transform.createInverse().createTransformedShape(clip);
+		} catch (NoninvertibleTransformException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Rectangle getClipBounds() {
+		Shape userClip = getClip();
+		return userClip == null ? null : userClip.getBounds();
+	}
+
+	@Override
+	public void setClip(Shape clip) {
+		this.clip = clip == null ? null : transform.createTransformedShape(clip);
+	}
+
+	@Override
+	public void setClip(int x, int y, int width, int height) {
+		setClip(new Rectangle(x, y, width, height));
+	}
+
+	@Override
+	public void clip(Shape shape) {
+		Shape deviceShape = transform.createTransformedShape(shape);
+		if (clip == null)
+			clip = deviceShape;
+		else {
+			Area area = new Area(clip);
+			area.intersect(new Area(deviceShape));
+			clip = area;
+		}
+	}
+
+	@Override
+	public void clipRect(int x, int y, int width, int height) {
+		clip(new Rectangle(x, y, width, height));
+	}
+
+}
@@ -0,0 +1,253 @@
+package framework;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
+
+public class RenderList {
+
+	enum CommandType {
+		Image,
+		ImageRegion,
+		FillRect,
+		DrawRect,
+		String,
+		DrawShape,
+		FillShape,
+		CopyArea,
+	}
+
+	// A single recorded draw call together with the graphics state it was made with
+	static class RenderCommand {
+		CommandType type;
+		final AffineTransform transform = new AffineTransform();
+		Composite composite;
+		Color color;
+		Font font;
+		Stroke stroke;
+		RenderingHints renderingHints;
+		Color xorColor;
+		Shape clip;
+		// The position of the object of this command, and how far it moved during the last update
+		float objectX, objectY, motionX, motionY;
+		boolean followsCamera;
+
+		Image image;
+		int x1, y1, x2, y2;
+		int sx1, sy1, sx2, sy2;
+		float textX, textY;
+		String text;
+		Shape shape;
+	}
+
+	// Commands are reused between frames, only the first commandCount of them are valid
+	private final ArrayList<RenderCommand> commands = new ArrayList<>();
+	private int commandCount = 0;
+	private final AffineTransform replayTransform = new AffineTransform();
+	// The time of the update that this list was recorded at, and the camera positions before and after it
+	private long updateTime;
+	private float cameraX, cameraY, previousCameraX, previousCameraY;
+
+	/**
+	 * The RenderList class stores the draw calls of a single frame so that they can be
+	 * recorded on one thread and drawn on another. It is filled through a RecordingGraphics,
+	 * and should not be modified while it is being drawn.
+	 * Like drawing directly, the list can be drawn in between two updates by giving it an interpolation,
+	 * in which case the recorded objects and the camera are moved back towards their previous positions.
+	 */
+	public RenderList() {}
+
+	/**
+	 * Removes all commands from this list while keeping them for reuse.
+	 */
+	public void clear() {
+		commandCount = 0;
+	}
+
+	public int size() {
+		return commandCount;
+	}
+
+	/**
+	 * Stores the state of the update that this list is recorded at, which is needed to interpolate the list.
+	 * @param updateTime the time that the update was scheduled at, in nanoseconds
+	 * @param camera the camera that the list is recorded with
+	 */
+	public void setUpdateState(long updateTime, Camera camera) {
+		this.updateTime = updateTime;
+		cameraX = camera.getCurrentX();
+		cameraY = camera.getCurrentY();
+		previousCameraX = camera.getPreviousX();
+		previousCameraY = camera.getPreviousY();
+	}
+
+	public long getUpdateTime() {
+		return updateTime;
+	}
+
+	RenderCommand nextCommand(CommandType type) {
+		RenderCommand command;
+		if (commandCount < commands.size())
+			command = commands.get(commandCount);
+		else {
+			command = new RenderCommand();
+			commands.add(command);
+		}
+		commandCount++;
+		command.type = type;
+		return command;
+	}
+
+	/**
+	 * Draws all commands in this list with the given graphics object, as they were recorded.
+	 * @param g the graphics object to draw with
+	 */
+	public void replay(Graphics2D g) {
+		replay(g, 1f);
+	}
+
+	/**
+	 * Draws all commands in this list with the given graphics object.
+	 * Recorded transforms are applied on top of the graphics object's current transform.
+	 * The state of the graphics object is restored afterwards.
+	 * @param g the graphics object to draw with
+	 * @param interpolation how far the game is between the update before the recorded one and the recorded one, from 0 to 1
+	 */
+	public void replay(Graphics2D g, float interpolation) {
+		AffineTransform baseTransform = g.getTransform();
+		Composite baseComposite = g.getComposite();
+		Color baseColor = g.getColor();
+		Font baseFont = g.getFont();
+		Stroke baseStroke = g.getStroke();
+		Shape baseClip = g.getClip();
+		RenderingHints baseRenderingHints = g.getRenderingHints();
+
+		// The part of the recorded update that hasn't been shown yet, which objects are moved back by
+		float remaining = 1 - interpolation;
+		// Rounded the same way as Camera.getX and getY
+		int cameraOffsetX = Math.round(cameraX) - Math.round(previousCameraX + (cameraX - previousCameraX) * interpolation);
+		int cameraOffsetY = Math.round(cameraY) - Math.round(previousCameraY + (cameraY - previousCameraY) * interpolation);
+
+		AffineTransform lastTransform = null;
+		int lastOffsetX = 0, lastOffsetY = 0;
+		Shape lastClip = null;
+		RenderingHints lastRenderingHints = null;
+		Color lastXorColor = null;
+		for (int i = 0; i < commandCount; i++) {
+			RenderCommand command = commands.get(i);
+
+			// Objects are moved back along their own motion, and world space is moved forward
+			// along the camera's, since the camera moves the world in the opposite direction
+			int offsetX = getObjectOffset(command.objectX, command.motionX, remaining);
+			int offsetY = getObjectOffset(command.objectY, command.motionY, remaining);
+			if (command.followsCamera) {
+				offsetX += cameraOffsetX;
+				offsetY += cameraOffsetY;
+			}
+
+			// Recorded clips are stored in the untransformed space of the list, and are moved with their commands
+			if (lastTransform == null || command.clip != lastClip
+					|| (command.clip != null && (offsetX != lastOffsetX || offsetY != lastOffsetY))) {
+				g.setTransform(baseTransform);
+				g.setClip(baseClip);
+				if (command.clip != null) {
+					g.translate(offsetX, offsetY);
+					g.clip(command.clip);
+				}
+				lastClip = command.clip;
+				lastTransform = null;
+			}
+			if (lastTransform == null || offsetX != lastOffsetX || offsetY != lastOffsetY
+					|| !lastTransform.equals(command.transform)) {
+				replayTransform.setTransform(baseTransform);
+				replayTransform.translate(offsetX, offsetY);
+				replayTransform.concatenate(command.transform);
+				g.setTransform(replayTransform);
+				lastTransform = command.transform;
+				lastOffsetX = offsetX;
+				lastOffsetY = offsetY;
+			}
+			// Recorded hints are applied on top of the graphics object's own hints
+			if (command.renderingHints != lastRenderingHints) {
+				applyRenderingHints(g, baseRenderingHints, command.renderingHints);
+				lastRenderingHints = command.renderingHints;
+			}
+			if (command.xorColor != null) {
+				if (command.xorColor != lastXorColor)
+					g.setXORMode(command.xorColor);
+			}
+			else if (lastXorColor != null || g.getComposite() != command.composite)
+				g.setComposite(command.composite);
+			lastXorColor = command.xorColor;
+			if (g.getColor() != command.color)
+				g.setColor(command.color);
+			if (g.getStroke() != command.stroke)
+				g.setStroke(command.stroke);
+
+			switch (command.type) {
+			case Image:
+				g.drawImage(command.image, command.x1, command.y1, command.x2, command.y2, null);
+				break;
+			case ImageRegion:
+				g.drawImage(command.image, command.x1, command.y1, command.x2, command.y2,
+						command.sx1, command.sy1, command.sx2, command.sy2, null);
+				break;
+			case FillRect:
+				g.fillRect(command.x1, command.y1, command.x2, command.y2);
+				break;
+			case DrawRect:
+				g.drawRect(command.x1, command.y1, command.x2, command.y2);
+				break;
+			case String:
+				if (g.getFont() != command.font)
+					g.setFont(command.font);
+				g.drawString(command.text, command.textX, command.textY);
+				break;
+			case DrawShape:
+				g.draw(command.shape);
+				break;
+			case FillShape:
+				g.fill(command.shape);
+				break;
+			case CopyArea:
+				g.copyArea(command.x1, command.y1, command.x2, command.y2, command.sx1, command.sy1);
+				break;
+			}
+		}
+
+		g.setTransform(baseTransform);
+		g.setComposite(baseComposite);
+		g.setColor(baseColor);
+		g.setFont(baseFont);
+		g.setStroke(baseStroke);
+		g.setClip(baseClip);
+		applyRenderingHints(g, baseRenderingHints, baseRenderingHints);
+	}
+
+	// Objects truncate their interpolated position to whole pixels when they draw themselves
+	private int getObjectOffset(float position, float motion, float remaining) {
+		if (motion == 0)
+			return 0;
+		return (int) Math.floor(position - motion * remaining) - (int) Math.floor(position);
+	}
+
+	// Hints are set one at a time, since setting them all at once doesn't update
+	// how shapes are antialiased until another hint changes
+	private void applyRenderingHints(Graphics2D g, RenderingHints baseHints, RenderingHints hints) {
+		for (Object key : baseHints.keySet()) {
+			Object value = hints.containsKey(key) ? hints.get(key) : baseHints.get(key);
+			g.setRenderingHint((RenderingHints.Key) key, value);
+		}
+		for (Object key : hints.keySet())
+			if (!baseHints.containsKey(key))
+				g.setRenderingHint((RenderingHints.Key) key, hints.get(key));
+	}
+
+}
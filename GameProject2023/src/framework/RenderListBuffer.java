@@ -0,0 +1,58 @@
+package framework;
+
+public class RenderListBuffer {
+
+	// The list being recorded by the simulation thread
+	private RenderList backList = new RenderList();
+	// The most recently published list that the render thread has not taken yet
+	private RenderList readyList = new RenderList();
+	// The list being drawn by the render thread
+	private RenderList frontList = new RenderList();
+	private boolean hasNewList = false;
+
+	/**
+	 * The RenderListBuffer class hands render lists from the simulation thread to the render thread.
+	 * The simulation thread records into the back list and publishes it, while the render thread always
+	 * draws the latest published list. Neither thread ever has to wait for the other to finish a frame,
+	 * and a list is never modified while it is being drawn.
+	 */
+	public RenderListBuffer() {}
+
+	/**
+	 * Returns the list that the simulation thread should record the next frame into.
+	 * Should only be called from the simulation thread.
+	 * @return the back list
+	 */
+	public RenderList getBackList() {
+		return backList;
+	}
+
+	/**
+	 * Makes the back list available to the render thread. If the previously published list
+	 * was never drawn, it is recycled as the new back list.
+	 * Should only be called from the simulation thread.
+	 */
+	public synchronized void publish() {
+		RenderList temp = readyList;
+		readyList = backList;
+		backList = temp;
+		hasNewList = true;
+	}
+
+	/**
+	 * Returns the latest published list. If nothing new was published since the last call,
+	 * the same list is returned again.
+	 * Should only be called from the render thread.
+	 * @return the list to draw
+	 */
+	public synchronized RenderList acquire() {
+		if (hasNewList) {
+			RenderList temp = frontList;
+			frontList = readyList;
+			readyList = temp;
+			hasNewList = false;
+		}
+		return frontList;
+	}
+
+}
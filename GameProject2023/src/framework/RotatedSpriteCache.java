@@ -0,0 +1,175 @@
+package framework;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class RotatedSpriteCache {
+
+	private static final int DEFAULT_ANGLE_BUCKETS = 64;
+	private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+	private static final double TWO_PI = 2 * Math.PI;
+
+	private static RotatedSpriteCache instance = null;
+
+	private static class Key {
+		SpriteFrame frame;
+		int width, height, bucket;
+
+		Key(SpriteFrame frame, int width, int height, int bucket) {
+			this.frame = frame;
+			this.width = width;
+			this.height = height;
+			this.bucket = bucket;
+		}
+
+		@Override
+		public int hashCode() {
+			return ((System.identityHashCode(frame) * 31 + width) * 31 + height) * 31 + bucket;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key))
+				return false;
+			Key key = (Key) other;
+			return frame == key.frame && width == key.width && height == key.height && bucket == key.bucket;
+		}
+	}
+
+	// Ordered from the least to the most recently used
+	private LinkedHashMap<Key, BufferedImage> rotatedImages = new LinkedHashMap<>(64, 0.75f, true);
+	// Reused for lookups so that finding an image that is already cached doesn't allocate
+	private final Key lookupKey = new Key(null, 0, 0, 0);
+	private final int angleBuckets;
+	private final long maxBytes;
+	private long usedBytes = 0;
+	private int hits, misses;
+
+	/**
+	 * The RotatedSpriteCache class stores sprite frames that are rotated and scaled ahead of time,
+	 * so that drawing a rotated sprite only needs an unscaled copy instead of a transformed one.
+	 * The angles are rounded to one of a fixed number of buckets, and a frame is rotated to a bucket
+	 * the first time it is requested. When the cached images take up more memory than the limit,
+	 * the least recently used ones are removed.
+	 *
+	 * @param angleBuckets the number of angles that a full rotation is divided into
+	 * @param maxBytes the maximum memory that the rotated images can use, in bytes
+	 */
+	public RotatedSpriteCache(int angleBuckets, long maxBytes) {
+		this.angleBuckets = angleBuckets;
+		this.maxBytes = maxBytes;
+	}
+
+	public static RotatedSpriteCache getInstance() {
+		if (instance == null)
+			instance = new RotatedSpriteCache(DEFAULT_ANGLE_BUCKETS, DEFAULT_MAX_BYTES);
+		return instance;
+	}
+
+	/**
+	 * Returns the given frame scaled to the given size and rotated around its center by the closest bucket angle.
+	 * The returned image is larger than the frame so that the corners fit, and its center is the center of the frame.
+	 * @param frame the frame to rotate
+	 * @param width the width to scale the frame to before rotating it
+	 * @param height the height to scale the frame to before rotating it
+	 * @param angle the angle of rotation in radians, clockwise on the screen
+	 * @return the rotated image, or null if the image would be too large to cache
+	 */
+	public synchronized BufferedImage getRotatedImage(SpriteFrame frame, int width, int height, double angle) {
+		int bucket = getBucket(angle);
+		lookupKey.frame = frame;
+		lookupKey.width = width;
+		lookupKey.height = height;
+		lookupKey.bucket = bucket;
+		BufferedImage rotatedImage = rotatedImages.get(lookupKey);
+		lookupKey.frame = null;
+		if (rotatedImage != null) {
+			hits++;
+			return rotatedImage;
+		}
+
+		double bucketAngle = bucket * TWO_PI / angleBuckets;
+		double sin = Math.abs(Math.sin(bucketAngle));
+		double cos = Math.abs(Math.cos(bucketAngle));
+		int rotatedWidth = (int) Math.ceil(width * cos + height * sin);
+		int rotatedHeight = (int) Math.ceil(width * sin + height * cos);
+		long imageBytes = getImageBytes(rotatedWidth, rotatedHeight);
+		if (width <= 0 || height <= 0 || imageBytes > maxBytes / 4)
+			return null;
+
+		misses++;
+		rotatedImage = createRotatedImage(frame, width, height, bucketAngle, rotatedWidth, rotatedHeight);
+		rotatedImages.put(new Key(frame, width, height, bucket), rotatedImage);
+		usedBytes += imageBytes;
+		evictLeastRecentlyUsed();
+		return rotatedImage;
+	}
+
+	private BufferedImage createRotatedImage(SpriteFrame frame, int width, int height, double angle,
+			int rotatedWidth, int rotatedHeight) {
+		BufferedImage rotatedImage = BufferedImageUtil.createCompatibleImage(rotatedWidth, rotatedHeight, Transparency.TRANSLUCENT);
+		Graphics2D g = rotatedImage.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		g.setComposite(AlphaComposite.Src);
+		g.translate(rotatedWidth / 2.0, rotatedHeight / 2.0);
+		g.rotate(angle);
+		g.translate(-width / 2.0, -height / 2.0);
+		frame.drawUncached(g, 0, 0, width, height);
+		g.dispose();
+		return rotatedImage;
+	}
+
+	// Rounds the angle to the closest bucket, wrapping around at a full rotation
+	private int getBucket(double angle) {
+		int bucket = (int) Math.round(angle / TWO_PI * angleBuckets) % angleBuckets;
+		return bucket < 0 ? bucket + angleBuckets : bucket;
+	}
+
+	private void evictLeastRecentlyUsed() {
+		Iterator<Map.Entry<Key, BufferedImage>> iterator = rotatedImages.entrySet().iterator();
+		while (usedBytes > maxBytes && iterator.hasNext()) {
+			BufferedImage image = iterator.next().getValue();
+			usedBytes -= getImageBytes(image.getWidth(), image.getHeight());
+			iterator.remove();
+		}
+	}
+
+	private long getImageBytes(int width, int height) {
+		return 4L * width * height;
+	}
+
+	/**
+	 * Removes every rotated image from the cache.
+	 */
+	public synchronized void clear() {
+		rotatedImages.clear();
+		usedBytes = 0;
+	}
+
+	public synchronized int getSize() {
+		return rotatedImages.size();
+	}
+
+	public synchronized long getUsedBytes() {
+		return usedBytes;
+	}
+
+	public synchronized int getHits() {
+		return hits;
+	}
+
+	public synchronized int getMisses() {
+		return misses;
+	}
+
+	public int getAngleBuckets() {
+		return angleBuckets;
+	}
+
+}
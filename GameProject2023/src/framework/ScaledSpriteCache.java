@@ -0,0 +1,145 @@
+package framework;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ScaledSpriteCache {
+
+	private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	private static ScaledSpriteCache instance = null;
+
+	private static class Key {
+		SpriteFrame frame;
+		int width, height;
+
+		Key(SpriteFrame frame, int width, int height) {
+			this.frame = frame;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public int hashCode() {
+			return (System.identityHashCode(frame) * 31 + width) * 31 + height;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key))
+				return false;
+			Key key = (Key) other;
+			return frame == key.frame && width == key.width && height == key.height;
+		}
+	}
+
+	// Ordered from the least to the most recently used
+	private LinkedHashMap<Key, BufferedImage> scaledImages = new LinkedHashMap<>(64, 0.75f, true);
+	// Reused for lookups so that finding an image that is already cached doesn't allocate
+	private final Key lookupKey = new Key(null, 0, 0);
+	private final long maxBytes;
+	private long usedBytes = 0;
+	private int hits, misses;
+
+	/**
+	 * The ScaledSpriteCache class stores sprite frames that are scaled to the sizes they are drawn with,
+	 * so that drawing them only needs an unscaled copy. Frames are scaled with nearest neighbor filtering
+	 * the first time they are requested at a size. When the cached images take up more memory than
+	 * the limit, the least recently used ones are removed.
+	 *
+	 * @param maxBytes the maximum memory that the scaled images can use, in bytes
+	 */
+	public ScaledSpriteCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	public static ScaledSpriteCache getInstance() {
+		if (instance == null)
+			instance = new ScaledSpriteCache(DEFAULT_MAX_BYTES);
+		return instance;
+	}
+
+	/**
+	 * Returns the given frame scaled to the given size, scaling it if it is not cached yet.
+	 * @param frame the frame to scale
+	 * @param width the width to scale to
+	 * @param height the height to scale to
+	 * @return the scaled image, or null if the image would be too large to cache
+	 */
+	public synchronized BufferedImage getScaledImage(SpriteFrame frame, int width, int height) {
+		lookupKey.frame = frame;
+		lookupKey.width = width;
+		lookupKey.height = height;
+		BufferedImage scaledImage = scaledImages.get(lookupKey);
+		lookupKey.frame = null;
+		if (scaledImage != null) {
+			hits++;
+			return scaledImage;
+		}
+
+		long imageBytes = getImageBytes(width, height);
+		if (width <= 0 || height <= 0 || imageBytes > maxBytes / 4)
+			return null;
+
+		misses++;
+		scaledImage = createScaledImage(frame, width, height);
+		scaledImages.put(new Key(frame, width, height), scaledImage);
+		usedBytes += imageBytes;
+		evictLeastRecentlyUsed();
+		return scaledImage;
+	}
+
+	private BufferedImage createScaledImage(SpriteFrame frame, int width, int height) {
+		BufferedImage scaledImage = BufferedImageUtil.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		Graphics2D g = scaledImage.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		g.setComposite(AlphaComposite.Src);
+		frame.drawUncached(g, 0, 0, width, height);
+		g.dispose();
+		return scaledImage;
+	}
+
+	private void evictLeastRecentlyUsed() {
+		Iterator<Map.Entry<Key, BufferedImage>> iterator = scaledImages.entrySet().iterator();
+		while (usedBytes > maxBytes && iterator.hasNext()) {
+			BufferedImage image = iterator.next().getValue();
+			usedBytes -= getImageBytes(image.getWidth(), image.getHeight());
+			iterator.remove();
+		}
+	}
+
+	private long getImageBytes(int width, int height) {
+		return 4L * width * height;
+	}
+
+	/**
+	 * Removes every scaled image from the cache.
+	 */
+	public synchronized void clear() {
+		scaledImages.clear();
+		usedBytes = 0;
+	}
+
+	public synchronized int getSize() {
+		return scaledImages.size();
+	}
+
+	public synchronized long getUsedBytes() {
+		return usedBytes;
+	}
+
+	public synchronized int getHits() {
+		return hits;
+	}
+
+	public synchronized int getMisses() {
+		return misses;
+	}
+
+}
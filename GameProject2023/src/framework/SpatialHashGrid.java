@@ -0,0 +1,177 @@
+package framework;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import abstracts.GameObject;
+import framework.ObjectId.Category;
+
+public class SpatialHashGrid {
+
+	private static class Entry {
+		GameObject object;
+		// The range of cells that the object is stored in
+		int minColumn, minRow, maxColumn, maxRow;
+		// The last query that returned the object, so that objects in several cells are only returned once
+		int queryStamp;
+
+		Entry(GameObject object) {
+			this.object = object;
+		}
+	}
+
+	private final int cellSize;
+	private final int columns, rows;
+	private final List<Entry>[] cells;
+	private final IdentityHashMap<GameObject, Entry> entries = new IdentityHashMap<>();
+
+	// Reused by queryRect so that queries don't allocate
+	private final List<GameObject> queryResult = new ArrayList<>();
+	private int queryStamp;
+
+	/**
+	 * The SpatialHashGrid class sorts objects into square cells by their bounds, so that the objects
+	 * near an area can be found without checking every object in the room. Objects that are outside
+	 * of the grid are stored in the closest cells on its edge.
+	 *
+	 * @param width the width of the area covered by the grid, in pixels
+	 * @param height the height of the area covered by the grid, in pixels
+	 * @param cellSize the size of each cell, in pixels
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public SpatialHashGrid(int width, int height, int cellSize) {
+		this.cellSize = cellSize;
+		columns = Math.max(1, (width + cellSize - 1) / cellSize);
+		rows = Math.max(1, (height + cellSize - 1) / cellSize);
+		cells = new List[columns * rows];
+		for (int i = 0; i < cells.length; i++)
+			cells[i] = new ArrayList<>(4);
+	}
+
+	/**
+	 * Adds an object to the cells that its bounds overlap.
+	 * @param object the object to add
+	 */
+	public void insert(GameObject object) {
+		if (object == null || entries.containsKey(object))
+			return;
+
+		Entry entry = new Entry(object);
+		entries.put(object, entry);
+		Rectangle bounds = object.getBounds();
+		setCellRange(entry, bounds.x, bounds.y, bounds.width, bounds.height);
+		addToCells(entry);
+	}
+
+	/**
+	 * Removes an object from the grid.
+	 * @param object the object to remove
+	 */
+	public void remove(GameObject object) {
+		Entry entry = entries.remove(object);
+		if (entry != null)
+			removeFromCells(entry);
+	}
+
+	/**
+	 * Moves an object to the cells that its current bounds overlap. Should be called after the object moves.
+	 * Objects that are not in the grid are ignored.
+	 * @param object the object to update
+	 */
+	public void update(GameObject object) {
+		Entry entry = entries.get(object);
+		if (entry == null)
+			return;
+
+		Rectangle bounds = object.getBounds();
+		int minColumn = getColumn(bounds.x);
+		int minRow = getRow(bounds.y);
+		int maxColumn = getColumn(bounds.x + Math.max(1, bounds.width) - 1);
+		int maxRow = getRow(bounds.y + Math.max(1, bounds.height) - 1);
+		if (minColumn == entry.minColumn && minRow == entry.minRow && maxColumn == entry.maxColumn && maxRow == entry.maxRow)
+			return;
+
+		removeFromCells(entry);
+		setCellRange(entry, bounds.x, bounds.y, bounds.width, bounds.height);
+		addToCells(entry);
+	}
+
+	/**
+	 * Returns the objects with the given category in the cells that the given area overlaps.
+	 * The objects are not checked against the area itself, so the caller should still test their bounds.
+	 * The same list is reused by every call, so it should not be stored or used after the next query.
+	 * @param area the area to search
+	 * @param category the category of the objects to find, or null to find objects of every category
+	 * @return the objects near the area
+	 */
+	public List<GameObject> queryRect(Rectangle area, Category category) {
+		return queryRect(area, category, queryResult);
+	}
+
+	/**
+	 * Finds the objects with the given category in the cells that the given area overlaps, and puts them into the given list.
+	 * Callers that can cause other queries while going through the result, for example by damaging the objects,
+	 * should use their own list so that the result is not replaced.
+	 * @param area the area to search
+	 * @param category the category of the objects to find, or null to find objects of every category
+	 * @param result the list to clear and fill with the objects near the area
+	 * @return the result list
+	 */
+	public List<GameObject> queryRect(Rectangle area, Category category, List<GameObject> result) {
+		result.clear();
+		queryStamp++;
+
+		int minColumn = getColumn(area.x);
+		int minRow = getRow(area.y);
+		int maxColumn = getColumn(area.x + Math.max(1, area.width) - 1);
+		int maxRow = getRow(area.y + Math.max(1, area.height) - 1);
+		for (int row = minRow; row <= maxRow; row++) {
+			for (int column = minColumn; column <= maxColumn; column++) {
+				List<Entry> cell = cells[row * columns + column];
+				for (int i = 0; i < cell.size(); i++) {
+					Entry entry = cell.get(i);
+					if (entry.queryStamp == queryStamp)
+						continue;
+					entry.queryStamp = queryStamp;
+					if (category == null || entry.object.compareCategory(category))
+						result.add(entry.object);
+				}
+			}
+		}
+		return result;
+	}
+
+	private void setCellRange(Entry entry, int x, int y, int width, int height) {
+		entry.minColumn = getColumn(x);
+		entry.minRow = getRow(y);
+		entry.maxColumn = getColumn(x + Math.max(1, width) - 1);
+		entry.maxRow = getRow(y + Math.max(1, height) - 1);
+	}
+
+	private void addToCells(Entry entry) {
+		for (int row = entry.minRow; row <= entry.maxRow; row++)
+			for (int column = entry.minColumn; column <= entry.maxColumn; column++)
+				cells[row * columns + column].add(entry);
+	}
+
+	private void removeFromCells(Entry entry) {
+		for (int row = entry.minRow; row <= entry.maxRow; row++)
+			for (int column = entry.minColumn; column <= entry.maxColumn; column++)
+				cells[row * columns + column].remove(entry);
+	}
+
+	private int getColumn(int x) {
+		return Math.max(0, Math.min(columns - 1, Math.floorDiv(x, cellSize)));
+	}
+
+	private int getRow(int y) {
+		return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, cellSize)));
+	}
+
+	public int getObjectCount() {
+		return entries.size();
+	}
+
+}
@@ -0,0 +1,78 @@
+package framework;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SpriteAtlas {
+
+	private static final int PAGE_SIZE = 1024;
+	// Transparent space between frames so that filtered scaling doesn't pick up the neighboring frames
+	private static final int PADDING = 1;
+
+	private List<BufferedImage> pages = new ArrayList<>();
+	private BufferedImage currentPage;
+	private Graphics2D pageGraphics;
+	private int cursorX, cursorY, rowHeight;
+
+	/**
+	 * The SpriteAtlas class packs many small images into a few large images that are in the format
+	 * of the screen. The images are placed in rows from left to right, and a new page is started
+	 * once a page is full. Adding the images sorted by height wastes the least space.
+	 */
+	public SpriteAtlas() {}
+
+	/**
+	 * Copies the given image into the atlas.
+	 * @param image the image to add, which must fit into a single page
+	 * @return the handle of the image's frame in the atlas
+	 */
+	public SpriteFrame add(BufferedImage image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		if (width > PAGE_SIZE || height > PAGE_SIZE)
+			throw new IllegalArgumentException("Image is too large for the atlas: " + width + "x" + height);
+
+		if (currentPage != null && cursorX + width > PAGE_SIZE) {
+			cursorX = 0;
+			cursorY += rowHeight + PADDING;
+			rowHeight = 0;
+		}
+		if (currentPage == null || cursorY + height > PAGE_SIZE)
+			startPage();
+
+		// Copy the pixels as they are, instead of blending them onto the empty page
+		pageGraphics.drawImage(image, cursorX, cursorY, null);
+		SpriteFrame frame = new SpriteFrame(currentPage, cursorX, cursorY, width, height);
+
+		cursorX += width + PADDING;
+		rowHeight = Math.max(rowHeight, height);
+		return frame;
+	}
+
+	/**
+	 * Releases the resources used for packing. Should be called after all images are added.
+	 */
+	public void finish() {
+		if (pageGraphics != null)
+			pageGraphics.dispose();
+		pageGraphics = null;
+	}
+
+	private void startPage() {
+		finish();
+		currentPage = BufferedImageUtil.createCompatibleImage(PAGE_SIZE, PAGE_SIZE, Transparency.TRANSLUCENT);
+		pages.add(currentPage);
+		pageGraphics = currentPage.createGraphics();
+		pageGraphics.setComposite(AlphaComposite.Src);
+		cursorX = cursorY = rowHeight = 0;
+	}
+
+	public int getPageCount() {
+		return pages.size();
+	}
+
+}
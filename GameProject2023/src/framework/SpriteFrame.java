@@ -0,0 +1,147 @@
+package framework;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+public class SpriteFrame {
+
+	private final BufferedImage atlas;
+	private final int x, y, width, height;
+	// A view of the frame's region in the atlas, for code that needs the frame as a separate image
+	private final BufferedImage image;
+	// Created the first time the frame is drawn in white
+	private SpriteFrame whiteSilhouette;
+
+	/**
+	 * The SpriteFrame class is a lightweight handle to a single sprite inside of a SpriteAtlas.
+	 * Drawing through the handle copies the frame's region of the atlas, so that every sprite
+	 * is drawn from the same few images which Java2D can keep in its accelerated image cache.
+	 *
+	 * @param atlas the atlas page that contains the frame
+	 * @param x the x coordinate of the frame in the atlas
+	 * @param y the y coordinate of the frame in the atlas
+	 * @param width the width of the frame
+	 * @param height the height of the frame
+	 */
+	public SpriteFrame(BufferedImage atlas, int x, int y, int width, int height) {
+		this.atlas = atlas;
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		image = atlas.getSubimage(x, y, width, height);
+	}
+
+	/**
+	 * Draws the frame without scaling.
+	 * @param g the graphics object to draw with
+	 * @param x the x coordinate to draw at
+	 * @param y the y coordinate to draw at
+	 */
+	public void draw(Graphics g, int x, int y) {
+		g.drawImage(atlas, x, y, x + width, y + height, this.x, this.y, this.x + width, this.y + height, null);
+	}
+
+	/**
+	 * Draws the frame scaled to the given size. The scaled frame is taken from the ScaledSpriteCache,
+	 * so that only an unscaled copy is needed after the first time a size is used.
+	 * @param g the graphics object to draw with
+	 * @param x the x coordinate to draw at
+	 * @param y the y coordinate to draw at
+	 * @param width the width to draw the frame with
+	 * @param height the height to draw the frame with
+	 */
+	public void draw(Graphics g, int x, int y, int width, int height) {
+		if (width == this.width && height == this.height) {
+			draw(g, x, y);
+			return;
+		}
+		
+		BufferedImage scaledImage = ScaledSpriteCache.getInstance().getScaledImage(this, width, height);
+		if (scaledImage != null)
+			g.drawImage(scaledImage, x, y, null);
+		else
+			drawUncached(g, x, y, width, height);
+	}
+
+	/**
+	 * Draws the frame scaled to the given size and rotated around its center. The rotated frame is taken
+	 * from the RotatedSpriteCache, so the angle is rounded to the closest of the cache's angles.
+	 * @param g the graphics object to draw with
+	 * @param centerX the x coordinate of the center of the frame
+	 * @param centerY the y coordinate of the center of the frame
+	 * @param width the width to draw the frame with
+	 * @param height the height to draw the frame with
+	 * @param angle the angle of rotation in radians
+	 */
+	public void drawRotated(Graphics g, float centerX, float centerY, int width, int height, double angle) {
+		BufferedImage rotatedImage = RotatedSpriteCache.getInstance().getRotatedImage(this, width, height, angle);
+		if (rotatedImage != null) {
+			int x = Math.round(centerX - rotatedImage.getWidth() / 2f);
+			int y = Math.round(centerY - rotatedImage.getHeight() / 2f);
+			g.drawImage(rotatedImage, x, y, null);
+			return;
+		}
+
+		Graphics2D g2d = (Graphics2D) g;
+		g2d.rotate(angle, centerX, centerY);
+		drawUncached(g, Math.round(centerX - width / 2f), Math.round(centerY - height / 2f), width, height);
+		g2d.rotate(-angle, centerX, centerY);
+	}
+
+	/**
+	 * Draws the frame scaled to the given size, scaling it while drawing.
+	 * @param g the graphics object to draw with
+	 * @param x the x coordinate to draw at
+	 * @param y the y coordinate to draw at
+	 * @param width the width to draw the frame with
+	 * @param height the height to draw the frame with
+	 */
+	public void drawUncached(Graphics g, int x, int y, int width, int height) {
+		g.drawImage(atlas, x, y, x + width, y + height, this.x, this.y, this.x + this.width, this.y + this.height, null);
+	}
+
+	/**
+	 * Returns a frame in which every visible pixel of this frame is painted white, which is used
+	 * for the flashing effect of invulnerable creatures. It is created on the first call and then reused.
+	 * @return the white version of this frame
+	 */
+	public SpriteFrame getWhiteSilhouette() {
+		if (whiteSilhouette == null) {
+			BufferedImage whiteImage = BufferedImageUtil.getImageInWhite(null, image);
+			whiteSilhouette = new SpriteFrame(whiteImage, 0, 0, width, height);
+		}
+		return whiteSilhouette;
+	}
+
+	public BufferedImage getAtlas() {
+		return atlas;
+	}
+
+	public int getX() {
+		return x;
+	}
+
+	public int getY() {
+		return y;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the frame as a separate image which shares its pixels with the atlas.
+	 * Should not be drawn into, since that would also change the atlas.
+	 * @return the image of the frame
+	 */
+	public BufferedImage getImage() {
+		return image;
+	}
+
+}
@@ -0,0 +1,145 @@
+package framework;
+
+import static framework.GameConstants.ScaleConstants.TILE_SIZE;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import abstracts.GameObject;
+
+public class StaticLayerCache {
+
+	// The layers are split into square chunks so that empty parts of a room are not drawn at all
+	private static final int CHUNK_SIZE = TILE_SIZE * 4;
+	private final int chunkColumns, chunkRows;
+
+	// The chunk images of each layer, null for chunks that contain no static objects
+	private BufferedImage[][] layerChunks;
+	private boolean[] baked;
+
+	/**
+	 * The StaticLayerCache class stores the static objects of each layer of a room as pre-rendered images,
+	 * so that they can be drawn with a few calls per frame instead of one call per object.
+	 * The images are created the first time a layer is drawn, and created again after invalidate is called.
+	 * Since a layer's static objects are drawn as one image, they are always drawn below its dynamic objects,
+	 * whatever their order in the layer's list is.
+	 *
+	 * @param layerCount the number of layers to cache
+	 * @param width the width of the room in pixels
+	 * @param height the height of the room in pixels
+	 */
+	public StaticLayerCache(int layerCount, int width, int height) {
+		chunkColumns = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		chunkRows = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		layerChunks = new BufferedImage[layerCount][];
+		baked = new boolean[layerCount];
+	}
+
+	/**
+	 * Draws the static objects of the given layer. Dynamic objects of the layer are not drawn,
+	 * and should be drawn on top afterwards, even if they come before static objects in the layer's list. Chunks outside of the camera's view are skipped.
+	 * @param g the graphics object to draw with
+	 * @param layer the index of the layer
+	 * @param objects the objects of the layer
+	 * @param camera the camera that the layer is drawn with
+	 */
+	public void render(Graphics g, int layer, List<GameObject> objects, Camera camera) {
+		render(g, layer, null, objects, camera);
+	}
+
+	/**
+	 * Draws the given tiles and the static objects of the given layer. The tiles are drawn below the objects.
+	 * @param g the graphics object to draw with
+	 * @param layer the index of the layer
+	 * @param tiles the tiles of the layer that are kept outside of its objects, or null if there are none
+	 * @param objects the objects of the layer
+	 * @param camera the camera that the layer is drawn with
+	 */
+	public void render(Graphics g, int layer, List<GameObject> tiles, List<GameObject> objects, Camera camera) {
+		if (!baked[layer]) {
+			layerChunks[layer] = bake(tiles, objects);
+			baked[layer] = true;
+		}
+
+		BufferedImage[] chunks = layerChunks[layer];
+		for (int i = 0; i < chunks.length; i++) {
+			int chunkX = (i % chunkColumns) * CHUNK_SIZE;
+			int chunkY = (i / chunkColumns) * CHUNK_SIZE;
+			if (chunks[i] != null && camera.isVisible(chunkX, chunkY, CHUNK_SIZE, CHUNK_SIZE))
+				g.drawImage(chunks[i], chunkX, chunkY, null);
+		}
+	}
+
+	/**
+	 * Discards the cached images so that they are drawn again from the objects the next time they are needed.
+	 * Should be called whenever a static object is added, removed or changes its appearance.
+	 */
+	public void invalidate() {
+		for (int i = 0; i < layerChunks.length; i++) {
+			// New images are created instead of redrawing the old ones, since a render list may still refer to them
+			layerChunks[i] = null;
+			baked[i] = false;
+		}
+	}
+
+	// Draws the tiles first, then the static objects in the same order that the ObjectHandler draws the layer in
+	private BufferedImage[] bake(List<GameObject> tiles, List<GameObject> objects) {
+		BufferedImage[] chunks = new BufferedImage[chunkColumns * chunkRows];
+		Graphics2D[] chunkGraphics = new Graphics2D[chunks.length];
+
+		// Images without partially transparent pixels can be drawn much faster, which is the case for all tiles
+		int transparency = Transparency.BITMASK;
+		if (tiles != null && hasTranslucentObject(tiles))
+			transparency = Transparency.TRANSLUCENT;
+		if (hasTranslucentObject(objects))
+			transparency = Transparency.TRANSLUCENT;
+
+		if (tiles != null)
+			bakeObjects(tiles, chunks, chunkGraphics, transparency);
+		bakeObjects(objects, chunks, chunkGraphics, transparency);
+
+		for (Graphics2D g : chunkGraphics) {
+			if (g != null)
+				g.dispose();
+		}
+		return chunks;
+	}
+
+	private boolean hasTranslucentObject(List<GameObject> objects) {
+		for (int i = objects.size() - 1; i >= 0; i--) {
+			GameObject object = objects.get(i);
+			if (object.isStatic() && object.getTexture().getTransparency() == Transparency.TRANSLUCENT)
+				return true;
+		}
+		return false;
+	}
+
+	private void bakeObjects(List<GameObject> objects, BufferedImage[] chunks, Graphics2D[] chunkGraphics, int transparency) {
+		for (int i = objects.size() - 1; i >= 0; i--) {
+			GameObject object = objects.get(i);
+			if (!object.isStatic())
+				continue;
+
+			// An object is drawn into every chunk that it overlaps
+			int firstColumn = Math.max(0, (int) object.getX() / CHUNK_SIZE);
+			int lastColumn = Math.min(chunkColumns - 1, ((int) object.getX() + object.getWidth() - 1) / CHUNK_SIZE);
+			int firstRow = Math.max(0, (int) object.getY() / CHUNK_SIZE);
+			int lastRow = Math.min(chunkRows - 1, ((int) object.getY() + object.getHeight() - 1) / CHUNK_SIZE);
+			for (int row = firstRow; row <= lastRow; row++) {
+				for (int column = firstColumn; column <= lastColumn; column++) {
+					int index = row * chunkColumns + column;
+					if (chunks[index] == null) {
+						chunks[index] = BufferedImageUtil.createCompatibleImage(CHUNK_SIZE, CHUNK_SIZE, transparency);
+						chunkGraphics[index] = chunks[index].createGraphics();
+						chunkGraphics[index].translate(-column * CHUNK_SIZE, -row * CHUNK_SIZE);
+					}
+					object.render(chunkGraphics[index]);
+				}
+			}
+		}
+	}
+
+}
@@ -4,7 +4,11 @@ import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 
 public class TextureLoader {
 
@@ -108,6 +112,13 @@ public class TextureLoader {
 	private BufferedImage uiSheet = null;
 	private BufferedImage creatureSheet = null;
 
+	// Every texture is packed into the atlas once when the loader is created
+	private SpriteAtlas atlas = new SpriteAtlas();
+	private EnumMap<TextureName, SpriteFrame[]> frames = new EnumMap<>(TextureName.class);
+	private EnumMap<TextureName, BufferedImage[]> textures = new EnumMap<>(TextureName.class);
+	// Finds the frame of an image that was returned by getTextures
+	private IdentityHashMap<BufferedImage, SpriteFrame> framesByImage = new IdentityHashMap<>();
+
 	private TextureLoader() {
 		try {
 			FileIO fileIO = new FileIO();
@@ -122,6 +133,7 @@ public class TextureLoader {
 			System.err.println("Failed to load an image file from the /res folder.");
 			e.printStackTrace();
 		}
+		packTextures();
 	};
 
 	public static TextureLoader getInstance() {
@@ -130,7 +142,67 @@ public class TextureLoader {
 		return instance;
 	}
 
+	/**
+	 * Returns the images of the given texture. The images are views of the sprite atlas,
+	 * and the same images are returned on every call.
+	 * @param textureName the name of the texture
+	 * @return a new array containing the images of the texture
+	 */
 	public BufferedImage[] getTextures(TextureName textureName) {
+		return textures.get(textureName).clone();
+	}
+
+	/**
+	 * Returns the frame handles of the given texture, in the same order as getTextures.
+	 * @param textureName the name of the texture
+	 * @return a new array containing the frames of the texture
+	 */
+	public SpriteFrame[] getFrames(TextureName textureName) {
+		return frames.get(textureName).clone();
+	}
+
+	/**
+	 * Returns the atlas frame of an image that was returned by this loader.
+	 * @param image an image returned by getTextures or getTexturesByDirection
+	 * @return the frame of the image, or null if the image is not in the atlas
+	 */
+	public SpriteFrame getFrame(BufferedImage image) {
+		return framesByImage.get(image);
+	}
+
+	// Loads every texture from the sheets and copies them into the atlas, tallest images first
+	private void packTextures() {
+		EnumMap<TextureName, BufferedImage[]> sheetTextures = new EnumMap<>(TextureName.class);
+		List<BufferedImage> images = new ArrayList<>();
+		for (TextureName textureName : TextureName.values()) {
+			BufferedImage[] loadedTextures = loadTextures(textureName);
+			sheetTextures.put(textureName, loadedTextures);
+			images.addAll(Arrays.asList(loadedTextures));
+		}
+		images.sort((a, b) -> Integer.compare(b.getHeight(), a.getHeight()));
+
+		IdentityHashMap<BufferedImage, SpriteFrame> framesBySheetImage = new IdentityHashMap<>();
+		for (BufferedImage image : images) {
+			if (!framesBySheetImage.containsKey(image))
+				framesBySheetImage.put(image, atlas.add(image));
+		}
+		atlas.finish();
+
+		for (TextureName textureName : TextureName.values()) {
+			BufferedImage[] loadedTextures = sheetTextures.get(textureName);
+			SpriteFrame[] textureFrames = new SpriteFrame[loadedTextures.length];
+			BufferedImage[] atlasTextures = new BufferedImage[loadedTextures.length];
+			for (int i = 0; i < loadedTextures.length; i++) {
+				textureFrames[i] = framesBySheetImage.get(loadedTextures[i]);
+				atlasTextures[i] = textureFrames[i].getImage();
+				framesByImage.put(atlasTextures[i], textureFrames[i]);
+			}
+			frames.put(textureName, textureFrames);
+			textures.put(textureName, atlasTextures);
+		}
+	}
+
+	private BufferedImage[] loadTextures(TextureName textureName) {
 		BufferedImage[] textures = null;
 
 		switch (textureName) {
@@ -0,0 +1,135 @@
+package framework;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TileMap {
+
+	public static final byte EMPTY = 0;
+	// Tiles that can't be passed through from any direction
+	public static final byte SOLID = 1;
+	// Tiles that can only be stood on, their bounds are the top third of the tile
+	public static final byte ONE_WAY = 2;
+
+	private final int tileSize;
+	private final int columns, rows;
+	private final byte[] tiles;
+
+	// Reused by queryRect so that queries don't allocate
+	private final List<Rectangle> queryResult = new ArrayList<>();
+	private final List<Rectangle> tileBoundsPool = new ArrayList<>();
+
+	/**
+	 * The TileMap class stores the collision flags of a room's tiles in a grid with one byte per tile,
+	 * so that collisions with the tiles can be found by looking only at the cells that an area overlaps,
+	 * instead of testing against a GameObject for every tile.
+	 *
+	 * @param columns the number of tiles in each row
+	 * @param rows the number of tiles in each column
+	 * @param tileSize the size of each tile, in pixels
+	 */
+	public TileMap(int columns, int rows, int tileSize) {
+		this.columns = columns;
+		this.rows = rows;
+		this.tileSize = tileSize;
+		tiles = new byte[columns * rows];
+	}
+
+	/**
+	 * Sets the flags of the tile at the given cell. Cells outside of the map are ignored.
+	 * @param column the column of the tile
+	 * @param row the row of the tile
+	 * @param flags the flags of the tile, or EMPTY to remove it
+	 */
+	public void setTile(int column, int row, byte flags) {
+		if (isInside(column, row))
+			tiles[row * columns + column] = flags;
+	}
+
+	/**
+	 * Returns the flags of the tile at the given cell.
+	 * @param column the column of the tile
+	 * @param row the row of the tile
+	 * @return the flags of the tile, or EMPTY if the cell is empty or outside of the map
+	 */
+	public byte getTile(int column, int row) {
+		if (!isInside(column, row))
+			return EMPTY;
+		return tiles[row * columns + column];
+	}
+
+	/**
+	 * Returns the flags of the tile that contains the given location.
+	 * @param x the x coordinate of the location, in pixels
+	 * @param y the y coordinate of the location, in pixels
+	 * @return the flags of the tile, or EMPTY if there is no tile at the location
+	 */
+	public byte getTileAt(int x, int y) {
+		return getTile(Math.floorDiv(x, tileSize), Math.floorDiv(y, tileSize));
+	}
+
+	/**
+	 * Returns the bounds of the tiles with any of the given flags in the cells that the given area overlaps.
+	 * The tiles are not checked against the area itself, so the caller should still test their bounds.
+	 * The same list and Rectangles are reused by every call, so they should not be stored, modified,
+	 * or used after the next query.
+	 * @param area the area to search
+	 * @param flags the flags of the tiles to find, for example {@code SOLID | ONE_WAY}
+	 * @return the bounds of the tiles near the area
+	 */
+	public List<Rectangle> queryRect(Rectangle area, int flags) {
+		queryResult.clear();
+
+		int minColumn = Math.max(0, Math.floorDiv(area.x, tileSize));
+		int minRow = Math.max(0, Math.floorDiv(area.y, tileSize));
+		int maxColumn = Math.min(columns - 1, Math.floorDiv(area.x + Math.max(1, area.width) - 1, tileSize));
+		int maxRow = Math.min(rows - 1, Math.floorDiv(area.y + Math.max(1, area.height) - 1, tileSize));
+		for (int row = minRow; row <= maxRow; row++) {
+			for (int column = minColumn; column <= maxColumn; column++) {
+				byte tile = tiles[row * columns + column];
+				if ((tile & flags) == 0)
+					continue;
+
+				if (queryResult.size() == tileBoundsPool.size())
+					tileBoundsPool.add(new Rectangle());
+				Rectangle tileBounds = tileBoundsPool.get(queryResult.size());
+				int height = (tile & SOLID) != 0 ? tileSize : tileSize / 3;
+				tileBounds.setBounds(column * tileSize, row * tileSize, tileSize, height);
+				queryResult.add(tileBounds);
+			}
+		}
+		return queryResult;
+	}
+
+	/**
+	 * Checks if a tile with any of the given flags intersects the given area.
+	 * @param area the area to check
+	 * @param flags the flags of the tiles to look for
+	 * @return true if a tile intersects the area, false otherwise
+	 */
+	public boolean intersects(Rectangle area, int flags) {
+		List<Rectangle> nearbyTiles = queryRect(area, flags);
+		for (int i = 0; i < nearbyTiles.size(); i++)
+			if (area.intersects(nearbyTiles.get(i)))
+				return true;
+		return false;
+	}
+
+	private boolean isInside(int column, int row) {
+		return column >= 0 && column < columns && row >= 0 && row < rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+}
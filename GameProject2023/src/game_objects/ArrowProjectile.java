@@ -7,17 +7,16 @@ import java.awt.AlphaComposite;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
-import java.util.List;
 
 import abstracts.Creature;
-import abstracts.GameObject;
 import abstracts.Projectile;
 import framework.Animation;
+import framework.GameClock;
 import framework.GameConstants;
 import framework.ObjectHandler;
-import framework.ObjectId.Category;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
+import framework.TileMap;
 
 public class ArrowProjectile extends Projectile {
 
@@ -39,12 +38,28 @@ public class ArrowProjectile extends Projectile {
 		texture = textureLoader.getTextures(TextureName.ArrowProjectile)[0];
 	}
 
+	/**
+	 * Prepares a removed arrow to be shot again.
+	 */
+	public void reset(float x, float y, float velX, float velY, int damage) {
+		this.x = x;
+		this.y = y;
+		this.velX = velX;
+		this.velY = velY;
+		this.damage = damage;
+		
+		stopUpdating = false;
+		landed = false;
+		alpha = 1;
+		arrowAnimation.resetAnimation();
+	}
+
 	@Override
 	public void tick() {
 		// If the arrow landed on the ground, wait for a certain amount
 		// of time and then remove it from the game.
 		if (landed) {
-			if (System.currentTimeMillis() - landingTime >= lifetimeAfterLandingMillis) {
+			if (GameClock.getInstance().currentTimeMillis() - landingTime >= lifetimeAfterLandingMillis) {
 				if (alpha > fadingRate) 
 					alpha -= fadingRate;
 				else
@@ -78,35 +93,25 @@ public class ArrowProjectile extends Projectile {
 		}
 		
 		// Block collision
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
-			if (other.equals(this))
-				continue;
-
-			if (other.compareCategory(Category.Block)) {
-				if (getBounds().intersects(other.getBounds())) {
-					stopUpdating = true;
-					
-					landingTime = System.currentTimeMillis();
-					landed = true;
-				}
-			}
+		if (objectHandler.getTileMap().intersects(getBounds(), TileMap.SOLID)) {
+			stopUpdating = true;
+			
+			landingTime = GameClock.getInstance().currentTimeMillis();
+			landed = true;
 		}
 	}
 
 	@Override
 	public void render(Graphics g) {
-	    float centerX = (float) getBounds().getCenterX();
-	    float centerY = (float) getBounds().getCenterY();
 	    double rotationAngle = Math.atan2(velY, velX);
 	    
+	    // The arrow is only transparent while it fades away after landing
 	    Graphics2D g2d = (Graphics2D) g;
-	    g2d.rotate(rotationAngle, centerX, centerY);
-	    g2d.setComposite(makeTransparent(alpha));
-	    arrowAnimation.drawAnimation(g2d, (int) x - width / 2, (int) y - height / 2, width * 2, height * 2);
-	    g2d.setComposite(makeTransparent(1));
-	    g2d.rotate(-rotationAngle, centerX, centerY);
+	    if (alpha < 1)
+	    	g2d.setComposite(makeTransparent(alpha));
+	    arrowAnimation.drawAnimation(g2d, (int) x - width / 2, (int) y - height / 2, width * 2, height * 2, rotationAngle);
+	    if (alpha < 1)
+	    	g2d.setComposite(makeTransparent(1));
 	}
 	
 	private AlphaComposite makeTransparent(float alpha) {
@@ -1,13 +1,11 @@
 package game_objects;
 
 import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Map;
 
 import framework.Animation;
-import framework.BufferedImageUtil;
+import framework.GameClock;
 
 public class CreatureAnimationManager {
 
@@ -78,15 +76,43 @@ public class CreatureAnimationManager {
 		Animation[] animations = animationMap.get(type);
 		int directionIndex = direction == 1 ? 0 : 1;
 
-		if (System.currentTimeMillis() - flashWhiteToggleTimer >= flashWhiteToggleCooldownMillis) {
+		if (isFlashingWhite(invulnerable))
+			animations[directionIndex].drawAnimationInWhite(g, x, y, width, height);
+		else
+			animations[directionIndex].drawAnimation(g, x, y, width, height);
+	}
+	
+	/**
+	 * Draws the animations with the given type, rotated around their center.
+	 * 
+	 * @param type			The type of the animation.
+	 * @param g				Reference to the Graphics object.
+	 * @param direction 	The direction of the animation to draw.
+	 * @param invulnerable	The invulnerability state of the creature.
+	 * @param x				The x coordinate of the animation's location.
+	 * @param y				The y coordinate of the animation's location.
+	 * @param width			The width scaling of the animation.
+	 * @param height		The height scaling of the animation.
+	 * @param angle			The angle of rotation in radians.
+	 */
+	public void drawAnimation(AnimationType type, Graphics g, int direction, boolean invulnerable, 
+			int x, int y, int width, int height, double angle) {
+		Animation[] animations = animationMap.get(type);
+		int directionIndex = direction == 1 ? 0 : 1;
+
+		if (isFlashingWhite(invulnerable))
+			animations[directionIndex].drawAnimationInWhite(g, x, y, width, height, angle);
+		else
+			animations[directionIndex].drawAnimation(g, x, y, width, height, angle);
+	}
+	
+	// Invulnerable creatures switch between their normal and white textures in regular intervals
+	private boolean isFlashingWhite(boolean invulnerable) {
+		if (GameClock.getInstance().currentTimeMillis() - flashWhiteToggleTimer >= flashWhiteToggleCooldownMillis) {
 			flashWhiteToggle = !flashWhiteToggle;
-			flashWhiteToggleTimer = System.currentTimeMillis();
+			flashWhiteToggleTimer = GameClock.getInstance().currentTimeMillis();
 		}
-		
-		BufferedImage currentImage = animations[directionIndex].getCurrentImage();
-		if (invulnerable && flashWhiteToggle) 
-			currentImage = BufferedImageUtil.getImageInWhite((Graphics2D) g, currentImage);
-		g.drawImage(currentImage, x, y, width, height, null);
+		return invulnerable && flashWhiteToggle;
 	}
 	
 	/**
@@ -1,6 +1,7 @@
 package game_objects;
 
 import java.awt.Graphics;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 
@@ -10,6 +11,7 @@ import framework.ObjectHandler;
 import framework.ObjectId;
 import framework.ObjectId.Category;
 import framework.ObjectId.Name;
+import framework.TextureLoader.TextureName;
 import visual_effects.OneTimeAnimation;
 
 public class Explosion extends GameObject {
@@ -20,6 +22,7 @@ public class Explosion extends GameObject {
 	
 	private Category[] targets;
 	private HashSet<GameObject> targetsHit;
+	private final List<GameObject> nearbyObjects = new ArrayList<>();
 	private int damage;
 	
 	/**
@@ -65,6 +68,27 @@ public class Explosion extends GameObject {
 		objectHandler.addObject(oneTimeAnimation, ObjectHandler.TOP_LAYER);
 	}
 
+	/**
+	 * Prepares a removed explosion to be played again, reusing its OneTimeAnimation.
+	 * Only explosions that own their animation can be reset, since the animation is added to the game again.
+	 * @param animationDamageFrames the indices of the animation where this explosion will deal damage at,
+	 * 		or null to deal damage on every frame.
+	 */
+	public void reset(float x, float y, int width, int height, TextureName textureName, int animationDelay,
+			int[] animationDamageFrames, int damage, Category[] targetCategories) {
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		this.animationDamageFrames = animationDamageFrames;
+		this.damage = damage;
+		this.targets = targetCategories;
+		targetsHit.clear();
+		
+		oneTimeAnimation.reset(x, y, width, height, textureName, animationDelay);
+		objectHandler.addObject(oneTimeAnimation, ObjectHandler.TOP_LAYER);
+	}
+
 	@Override
 	public void tick() {
 		if (oneTimeAnimation.isFinished()) {
@@ -90,16 +114,17 @@ public class Explosion extends GameObject {
 	}
 	
 	private void handleExplosionCollisions() {
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
+		// Damaging a target can cause other queries, so the result is kept in a separate list
+		objectHandler.getSpatialGrid().queryRect(getBounds(), null, nearbyObjects);
+		for (int i = nearbyObjects.size() - 1; i >= 0; i--) {
+			GameObject other = nearbyObjects.get(i);
 			for (Category category : targets) {
 				// Make sure a target can only be hit once
 				if (targetsHit.contains(other))
 					continue;
 				
-				// Damage objects with the given category
-				if (other.compareCategory(category)) {
+				// Damage objects with the given category, skipping the ones that died during this update
+				if (other.compareCategory(category) && !((Creature) other).isDead()) {
 					if (getBounds().intersects(other.getBounds())) {
 						((Creature) other).takeDamage(damage, 0);
 						targetsHit.add(other);
@@ -4,7 +4,6 @@ import static framework.GameConstants.ScaleConstants.PLAYER_HEIGHT;
 import static framework.GameConstants.ScaleConstants.PLAYER_WIDTH;
 
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 
@@ -16,10 +15,8 @@ import framework.ObjectHandler;
 import framework.ObjectId;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
-import game_objects.ArrowProjectile;
 import game_objects.CreatureAnimationManager.AnimationType;
 import ui.CreatureHealthBar;
-import visual_effects.DamageNumberPopup;
 
 public class ArcherEnemy extends Creature {
 
@@ -90,7 +87,7 @@ public class ArcherEnemy extends Creature {
 
 	@Override
 	public void takeDamage(int damageAmount, int invulnerabilityDuration) {
-		if (invulnerable)
+		if (invulnerable || dead)
 			return;
 		
 		if (invulnerabilityDuration != 0) {
@@ -100,7 +97,7 @@ public class ArcherEnemy extends Creature {
 		}
 
 		setHealth(health - damageAmount);
-		objectHandler.addObject(new DamageNumberPopup(x + width / 3, y - height / 5, damageAmount, objectHandler), ObjectHandler.MENU_LAYER);
+		objectHandler.getCombatTextManager().showDamage(this, x + width / 3, y - height / 5, damageAmount);
 
 		if (health <= 0)
 			die();
@@ -108,6 +105,9 @@ public class ArcherEnemy extends Creature {
 
 	@Override
 	public void applyKnockback(float velX, float velY) {
+		if (dead)
+			return;
+		
 		knockedBack = true;
 		this.velX = velX;
 		this.velY = velY;
@@ -169,7 +169,7 @@ public class ArcherEnemy extends Creature {
 	// Shoot the arrow aimed at the center of the Player
 	private void shootArrow(float speedX) {
 		takeAim(speedX);
-		objectHandler.addObject(new ArrowProjectile(x, y, shootVelX, shootVelY, 15, objectHandler), ObjectHandler.MIDDLE_LAYER);
+		objectHandler.addObject(objectHandler.getObjectPools().obtainArrowProjectile(x, y, shootVelX, shootVelY, 15), ObjectHandler.MIDDLE_LAYER);
 	}
 
 	private void runAnimations() {
@@ -182,16 +182,13 @@ public class ArcherEnemy extends Creature {
 	private void drawAnimations(Graphics g) {
 		int directionIndex = direction == 1 ? 0 : 1;
 
-		final int x = (int) this.x - width / 2;
-		final int y = (int) this.y - height / 2;
+		final int x = (int) getRenderX() - width / 2;
+		final int y = (int) getRenderY() - height / 2;
 		final int width = this.width * 2;
 		final int height = this.height * 2;
 		
 		if (animationManager.getCurrentAnimationFrame(AnimationType.Spawn) >= 13) {
 			if (isShotReady) {
-				float centerX = (float) getBounds().getCenterX();
-				float centerY = (float) getBounds().getCenterY();
-	
 				// Calculate the angle that this enemy will be rotated at
 				double rotationAngle;
 				if (shootVelX < 0)
@@ -203,11 +200,8 @@ public class ArcherEnemy extends Creature {
 				g.drawImage(legsShootingTextures[directionIndex], x, y, width, height, null);
 	
 				// Rotate the torso
-				Graphics2D g2d = (Graphics2D) g;
-				g2d.rotate(rotationAngle, centerX, centerY);
 				animationManager.drawAnimation(AnimationType.Attack1, g, direction, invulnerable,
-						 x, y, width, height);
-				g2d.rotate(-rotationAngle, centerX, centerY);
+						 x, y, width, height, rotationAngle);
 			}
 			else
 				animationManager.drawAnimation(AnimationType.Idle, g, direction, invulnerable,
@@ -6,9 +6,9 @@ import static framework.GameConstants.ScaleConstants.PLAYER_WIDTH;
 import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.util.ArrayList;
+import java.util.List;
 
 import abstracts.Creature;
-import abstracts.GameObject;
 import framework.Animation;
 import framework.GameConstants;
 import framework.ObjectHandler;
@@ -16,10 +16,9 @@ import framework.ObjectId;
 import framework.ObjectId.Category;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
+import framework.TileMap;
 import game_objects.CreatureAnimationManager.AnimationType;
-import main.Game;
 import ui.CreatureHealthBar;
-import visual_effects.DamageNumberPopup;
 
 public class BullEnemy extends Creature {
 	
@@ -28,6 +27,8 @@ public class BullEnemy extends Creature {
 	private float runningSpeed = 3f;
 	private boolean stunnedByWall = false;
 
+	private final Rectangle wallCollisionBounds = new Rectangle();
+
 	public BullEnemy(int x, int y, ObjectHandler objectHandler) {
 		super(x, y, PLAYER_WIDTH, PLAYER_HEIGHT, 25, 150, objectHandler, new ObjectId(ObjectId.Category.Enemy, ObjectId.Name.BullEnemy));		
 		this.objectHandler = objectHandler;
@@ -97,34 +98,31 @@ public class BullEnemy extends Creature {
 		if (!stunnedByWall)
 			velX = direction * runningSpeed;
 		
-		for (GameObject other : objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER)) {
-			// Collision with Blocks
-			if (other.compareCategory(Category.Block)) {
-				Rectangle otherBounds = other.getBounds();
-
-				// Bottom collision
-				if (getBottomBounds().intersects(otherBounds)) {
-					y = other.getY() - height;
-					velY = 0;
-					falling = false;
-					jumping = false;
+		falling = true;
+		List<Rectangle> nearbyBlocks = objectHandler.getTileMap().queryRect(getCollisionSearchArea(), TileMap.SOLID);
+		for (int i = nearbyBlocks.size() - 1; i >= 0; i--) {
+			Rectangle otherBounds = nearbyBlocks.get(i);
+
+			// Bottom collision
+			if (getBottomBounds().intersects(otherBounds)) {
+				y = otherBounds.y - height;
+				velY = 0;
+				falling = false;
+				jumping = false;
+			}
+			
+			if (!stunnedByWall && getHorizontalBounds().intersects(otherBounds)) {
+				// If the both the head and the body hit a wall, get stunned.
+				if (getWallCollisionBounds().intersects(otherBounds)) {
+					stunnedByWall = true;
+					objectHandler.getCamera().shake(15, 10);
+					animationManager.resetAnimation(AnimationType.Stun);
+					velX = 0;
 				}
-				else
-					falling = true;
-				
-				if (!stunnedByWall && getHorizontalBounds().intersects(otherBounds)) {
-					// If the both the head and the body hit a wall, get stunned.
-					if (getWallCollisionBounds().intersects(otherBounds)) {
-						stunnedByWall = true;
-						Game.shakeCamera(15, 10);
-						animationManager.resetAnimation(AnimationType.Stun);
-						velX = 0;
-					}
-					// If only the body hits a wall, turn back and keep running. 
-					else {
-						direction = -direction;
-						velX = direction * runningSpeed;
-					}
+				// If only the body hits a wall, turn back and keep running. 
+				else {
+					direction = -direction;
+					velX = direction * runningSpeed;
 				}
 			}
 		}
@@ -132,7 +130,7 @@ public class BullEnemy extends Creature {
 	
 	@Override
 	public void takeDamage(int damageAmount, int invulnerabilityDuration) {
-		if (invulnerable)
+		if (invulnerable || dead)
 			return;
 		 
 		if (invulnerabilityDuration != 0) {
@@ -142,7 +140,7 @@ public class BullEnemy extends Creature {
 		}
 		
 		setHealth(health - damageAmount);
-		objectHandler.addObject(new DamageNumberPopup(x + width / 3, y - height / 5, damageAmount, objectHandler), ObjectHandler.MENU_LAYER);
+		objectHandler.getCombatTextManager().showDamage(this, x + width / 3, y - height / 5, damageAmount);
 		
 		if (health <= 0)
 			die();
@@ -162,7 +160,8 @@ public class BullEnemy extends Creature {
 		else
 			boundsX = (int) (x - boundsWidth);
 		
-		return new Rectangle(boundsX, boundsY, boundsWidth, boundsHeight);
+		wallCollisionBounds.setBounds(boundsX, boundsY, boundsWidth, boundsHeight);
+		return wallCollisionBounds;
 	}
 
 	private void setupAnimations() {
@@ -195,8 +194,8 @@ public class BullEnemy extends Creature {
 	}
 
 	private void drawAnimations(Graphics g) {
-		final int x = (int) this.x - width / 2;
-		final int y = (int) this.y - height / 2;
+		final int x = (int) getRenderX() - width / 2;
+		final int y = (int) getRenderY() - height / 2;
 		final int width = this.width * 2;
 		final int height = this.height * 2;
 		
@@ -10,7 +10,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import abstracts.Creature;
-import abstracts.GameObject;
 import framework.Animation;
 import framework.DurationTracker;
 import framework.GameConstants;
@@ -19,10 +18,10 @@ import framework.ObjectId;
 import framework.ObjectId.Category;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
+import framework.TileMap;
 import game_objects.CreatureAnimationManager.AnimationType;
 import game_objects.player.Player;
 import ui.CreatureHealthBar;
-import visual_effects.DamageNumberPopup;
 
 public class ToadEnemy extends Creature {
 
@@ -51,6 +50,9 @@ public class ToadEnemy extends Creature {
 	private float runAcceleration = 0.01f;
 	private float runningSpeed = 2f;
 
+	private final Rectangle visionBounds = new Rectangle();
+	private final Rectangle walkPathCheckBounds = new Rectangle();
+
 	public ToadEnemy(int x, int y, ObjectHandler objectHandler) {
 		super(x, y, (int) (TILE_SIZE * 1.5f), (int) (TILE_SIZE * 1.5f), 25, 100, objectHandler, new ObjectId(ObjectId.Category.Enemy, ObjectId.Name.BasicEnemy));		
 		this.objectHandler = objectHandler;
@@ -231,18 +233,7 @@ public class ToadEnemy extends Creature {
 	 * @return True if there is a path that can be walked on, false otherwise.
 	 */
 	private boolean checkPatrolPath() {
-		boolean pathExists = false;
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
-			if (other.compareCategory(Category.Block) || other.compareCategory(Category.JumpThroughBlock)) {
-				if (getWalkPathCheckBounds().intersects(other.getBounds())) {
-					pathExists = true;
-					break;
-				}
-			}
-		}
-		return pathExists;
+		return objectHandler.getTileMap().intersects(getWalkPathCheckBounds(), TileMap.SOLID | TileMap.ONE_WAY);
 	}
 
 	@Override
@@ -257,8 +248,7 @@ public class ToadEnemy extends Creature {
 		}
 
 		setHealth(health - damageAmount);
-		objectHandler.addObject(new DamageNumberPopup(x + width / 3, y - height / 5, damageAmount, objectHandler),
-				ObjectHandler.MENU_LAYER);
+		objectHandler.getCombatTextManager().showDamage(this, x + width / 3, y - height / 5, damageAmount);
 
 		if (health <= 0 && !dead) {
 			die(false);
@@ -296,7 +286,8 @@ public class ToadEnemy extends Creature {
 		else
 			visionX = (int) (x + width / 2 - (visionWidth * (visionFrontalRatio)));
 
-		return new Rectangle(visionX, visionY, visionWidth, visionHeight);
+		visionBounds.setBounds(visionX, visionY, visionWidth, visionHeight);
+		return visionBounds;
 	}
 	
 	/**
@@ -313,7 +304,8 @@ public class ToadEnemy extends Creature {
 			x = (int) (this.x + this.width - width);
 		else
 			x = (int) (this.x);
-		return new Rectangle(x, y, width, height);
+		walkPathCheckBounds.setBounds(x, y, width, height);
+		return walkPathCheckBounds;
 	}
 
 	private void setupAnimations() {
@@ -384,8 +376,8 @@ public class ToadEnemy extends Creature {
 	}
 
 	private void drawAnimations(Graphics g) {
-		final int x = (int) this.x - width / 2;
-		final int y = (int) this.y - height / 2;
+		final int x = (int) getRenderX() - width / 2;
+		final int y = (int) getRenderY() - height / 2;
 		final int width = this.width * 2;
 		final int height = this.height * 2;
 
@@ -5,6 +5,7 @@ import static framework.GameConstants.ScaleConstants.PLAYER_WIDTH;
 
 import java.awt.Graphics;
 import java.awt.Rectangle;
+import java.util.ArrayList;
 import java.util.List;
 
 import abstracts.Creature;
@@ -17,11 +18,12 @@ import framework.ObjectHandler;
 import framework.ObjectId;
 import framework.ObjectId.Category;
 import framework.ObjectId.Name;
+import framework.SpatialHashGrid;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
+import framework.TileMap;
 import player_weapons.FistWeapon;
 import ui.Inventory;
-import visual_effects.DamageNumberPopup;
 import window.KeyInput;
 import window.MouseInput;
 
@@ -50,6 +52,8 @@ public class Player extends Creature {
 	private boolean lockMovementInputs = false; 
 	
 	private int coinCount = 0;
+	// Reused by the spatial grid queries of handleObjectInteraction, since picking up an item can cause other queries
+	private final List<GameObject> nearbyObjects = new ArrayList<>();
 
 	public Player(int x, int y, Inventory inventory, ObjectHandler objectHandler, KeyInput keyInput, MouseInput mouseInput) {
 		super(x, y, PLAYER_WIDTH, PLAYER_HEIGHT, 40, 100, objectHandler, new ObjectId(Category.Player, Name.Player));
@@ -183,7 +187,7 @@ public class Player extends Creature {
 
 	@Override
 	public void takeDamage(int damageAmount, int invulnerabilityDuration) {
-		if (invulnerable || dodging)
+		if (invulnerable || dodging || dead)
 			return;
 
 		if (invulnerabilityDuration != 0) {
@@ -193,7 +197,7 @@ public class Player extends Creature {
 		}
 
 		setHealth(health - damageAmount);
-		objectHandler.addObject(new DamageNumberPopup(x + width / 3, y - height / 5, damageAmount, objectHandler), ObjectHandler.MENU_LAYER);
+		objectHandler.getCombatTextManager().showDamage(this, x + width / 3, y - height / 5, damageAmount);
 
 		/* TODO
 		if (health <= 0)
@@ -215,29 +219,39 @@ public class Player extends Creature {
 		this.velY = velY;
 	}
 
-	// Handles collision with other objects and item pick ups.
+	// Handles collision with tiles and other objects, and item pick ups.
 	private void handleObjectInteraction() {
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
 		falling = true;
 
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
-			if (other.equals(this))
-				continue;
+		// Check Collisions with the tiles
+		TileMap tileMap = objectHandler.getTileMap();
+		List<Rectangle> nearbyTiles = tileMap.queryRect(getCollisionSearchArea(), TileMap.SOLID | TileMap.ONE_WAY);
+		for (int i = nearbyTiles.size() - 1; i >= 0; i--) {
+			Rectangle tileBounds = nearbyTiles.get(i);
+			if (tileMap.getTileAt(tileBounds.x, tileBounds.y) == TileMap.SOLID)
+				checkBlockCollision(tileBounds);
+			else
+				checkJumpThroughBlockCollision(tileBounds);
+		}
 
-			// Check Collisions
-			if (other.compareCategory(Category.Block))
-				checkBlockCollision(other);
-			if (other.compareCategory(Category.JumpThroughBlock))
-				checkJumpThroughBlockCollision(other);
-			if (other.compareCategory(Category.DiagonalBlock))
-				checkDiagonalBlockCollision(other);
+		// Check Collisions with the diagonal tiles
+		SpatialHashGrid spatialGrid = objectHandler.getSpatialGrid();
+		List<GameObject> diagonalBlocks = spatialGrid.queryRect(getCollisionSearchArea(), Category.DiagonalBlock, nearbyObjects);
+		for (int i = diagonalBlocks.size() - 1; i >= 0; i--)
+			checkDiagonalBlockCollision(diagonalBlocks.get(i));
+
+		checkItemPickup(spatialGrid.queryRect(getCollisionSearchArea(), Category.Item, nearbyObjects));
+		checkItemPickup(spatialGrid.queryRect(getCollisionSearchArea(), Category.WeaponItem, nearbyObjects));
+	}
+
+	private void checkItemPickup(List<GameObject> items) {
+		for (int i = items.size() - 1; i >= 0; i--) {
+			GameObject other = items.get(i);
 
 			// Check Item Pickup
 			if (canInteract && keyInput.isInteractKeyPressed()) {
 				if (getBounds().intersects(other.getBounds())) {
-					if (other.compareCategory(Category.Item) || other.compareCategory(Category.WeaponItem))
-						((Item) other).pickupItem();
+					((Item) other).pickupItem();
 
 					canInteract = false;
 					interactDurationTracker.start();
@@ -251,9 +265,7 @@ public class Player extends Creature {
 		}
 	}
 
-	private void checkBlockCollision(GameObject other) {
-		Rectangle otherBounds = other.getBounds();
-
+	private void checkBlockCollision(Rectangle otherBounds) {
 		// Check if the player is grounded or not
 		if (getGroundCheckBounds().intersects(otherBounds))
 			falling = false;
@@ -265,7 +277,7 @@ public class Player extends Creature {
 
 		// Bottom collision
 		if (getBottomBounds().intersects(otherBounds)) {
-			y = other.getY() - height;
+			y = otherBounds.y - height;
 			velY = 0;
 			jumping = false;
 			// Reset available jump count after hitting the ground
@@ -275,30 +287,28 @@ public class Player extends Creature {
 
 		// Horizontal collision
 		if (getHorizontalBounds().intersects(otherBounds)) {
-			int xDiff = (int) (x - other.getX());
+			int xDiff = (int) (x - otherBounds.x);
 			// Player is to the left of the object
 			if (xDiff < 0)
-				x = other.getX() - getHorizontalBounds().width;
+				x = otherBounds.x - getHorizontalBounds().width;
 			// Player is to the right of the object
 			else
-				x = other.getX() + other.getWidth();
+				x = otherBounds.x + otherBounds.width;
 		}
 
 		// Top collision
 		if (getTopBounds().intersects(otherBounds)) {
-			y = other.getY() + other.getHeight();
+			y = otherBounds.y + otherBounds.height;
 			velY = 0;
 		}
 	}
 	
-	private void checkJumpThroughBlockCollision(GameObject other) {
+	private void checkJumpThroughBlockCollision(Rectangle otherBounds) {
 		if (velY < 0)
 			return;
 		if (keyInput.isCrouchKeyPressed())
 			return;
 		
-		Rectangle otherBounds = other.getBounds();
-
 		// Check if the player is grounded or not
 		if (getGroundCheckBounds().intersects(otherBounds))
 			falling = false;
@@ -310,7 +320,7 @@ public class Player extends Creature {
 		
 		// Bottom collision
 		if (getBottomBounds().intersects(otherBounds)) {
-			y = other.getY() - height;
+			y = otherBounds.y - height;
 			velY = 0;
 			jumping = false;
 			// Reset available jump count after hitting the ground
@@ -7,6 +7,8 @@ import java.awt.image.BufferedImage;
 import abstracts.Weapon;
 import framework.Animation;
 import framework.BufferedImageUtil;
+import framework.GameClock;
+import framework.SpriteFrame;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
 
@@ -58,22 +60,32 @@ public class PlayerAnimationHandler {
 	}
 	
 	public void drawPlayerAnimations(Graphics g) {
-		int imageX = (int) (player.getX() - player.getWidth() / 2);
-		int imageY = (int) (player.getY() - player.getHeight() / 2);
+		int imageX = (int) (player.getRenderX() - player.getWidth() / 2);
+		int imageY = (int) (player.getRenderY() - player.getHeight() / 2);
 		int imageWidth = player.getWidth() * 2;
 		int imageHeight = player.getHeight() * 2;
 		
-		if (System.currentTimeMillis() - flashWhiteToggleTimer >= flashWhiteToggleCooldownMillis) {
+		if (GameClock.getInstance().currentTimeMillis() - flashWhiteToggleTimer >= flashWhiteToggleCooldownMillis) {
 			flashWhiteToggle = !flashWhiteToggle;
-			flashWhiteToggleTimer = System.currentTimeMillis();
+			flashWhiteToggleTimer = GameClock.getInstance().currentTimeMillis();
 		}
 		
 		// If the player is invulnerable, display a periodic white flash as an indicator
 		BufferedImage currentImage = getCurrentAnimationImage();
-		if (player.isInvulnerable() && flashWhiteToggle)
-			currentImage = BufferedImageUtil.getImageInWhite((Graphics2D) g, currentImage);
+		boolean drawInWhite = player.isInvulnerable() && flashWhiteToggle;
 		
-		g.drawImage(currentImage, imageX, imageY, imageWidth, imageHeight, null);
+		// Draw from the sprite atlas when possible
+		SpriteFrame currentFrame = TextureLoader.getInstance().getFrame(currentImage);
+		if (currentFrame != null) {
+			if (drawInWhite)
+				currentFrame = currentFrame.getWhiteSilhouette();
+			currentFrame.draw(g, imageX, imageY, imageWidth, imageHeight);
+		}
+		else {
+			if (drawInWhite)
+				currentImage = BufferedImageUtil.getImageInWhite((Graphics2D) g, currentImage);
+			g.drawImage(currentImage, imageX, imageY, imageWidth, imageHeight, null);
+		}
 	}
 	
 	private BufferedImage getCurrentAnimationImage() {
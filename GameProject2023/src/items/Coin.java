@@ -16,16 +16,29 @@ import visual_effects.OneTimeAnimation;
 public class Coin extends Item {
 
 	private int worth;
+	private TextureName textureName;
 	
 	public Coin(float x, float y, ObjectHandler objectHandler) {
 		super(x, y, TILE_SIZE / 2, TILE_SIZE / 2, objectHandler, Name.Coin);
 		
+		texture = TextureLoader.getInstance().getTextures(TextureName.GoldCoin)[0];
+		setupCoin();
+	}
+	
+	/**
+	 * Prepares a removed coin to be dropped again, with a new worth and direction.
+	 */
+	public void reset(float x, float y) {
+		this.x = x;
+		this.y = y;
+		setFalling(true);
+		setupCoin();
+	}
+	
+	private void setupCoin() {
 		velX = (float) (Math.random() * 6 - 3);
 		velY = (float) (Math.random() * -1 * 5);
 		
-		TextureLoader textureLoader = TextureLoader.getInstance();
-		texture = textureLoader.getTextures(TextureName.GoldCoin)[0];
-		
 		/*
 		 * Bronze is worth the least 45% chance to appear
 		 * Gold is worth the most, 20% chance to appear
@@ -46,14 +59,20 @@ public class Coin extends Item {
 			worth = 5;
 		}
 		
-		int spinDelay = 7;
-		animation = new Animation(textureLoader.getTextures(textureName), spinDelay, false);
+		// The spinning animation is only created again if the coin changed its type
+		if (textureName == this.textureName)
+			animation.resetAnimation();
+		else {
+			this.textureName = textureName;
+			int spinDelay = 7;
+			animation = new Animation(TextureLoader.getInstance().getTextures(textureName), spinDelay, false);
+		}
 	}
 
 	@Override
 	public void pickupItem() {
-		OneTimeAnimation sparkleAnimation = new OneTimeAnimation(x - width / 2, y - height / 2,
-				TextureName.SparkleEffect, 8, objectHandler);
+		OneTimeAnimation sparkleAnimation = objectHandler.getObjectPools().obtainOneTimeAnimation(x - width / 2, y - height / 2,
+				TILE_SIZE, TILE_SIZE, TextureName.SparkleEffect, 8);
 		objectHandler.addObject(sparkleAnimation, ObjectHandler.MIDDLE_LAYER);
 		objectHandler.removeObject(this);
 		
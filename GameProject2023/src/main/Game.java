@@ -3,11 +3,23 @@ package main;
 import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferStrategy;
-import java.time.LocalDateTime;
+import java.awt.image.VolatileImage;
+import java.util.List;
 
-import framework.GameConstants;
+import framework.BitmapFont;
+import framework.FramePacer;
+import framework.FrameTelemetry;
+import framework.GameConstants.FontConstants;
+import framework.GameConstants.LoopConstants;
+import framework.GameConstants.ScaleConstants;
 import framework.ObjectHandler;
+import framework.ObjectPool;
+import framework.RecordingGraphics;
+import framework.RenderList;
+import framework.RenderListBuffer;
 import window.GameWindow;
 import window.KeyInput;
 import window.MouseInput;
@@ -16,15 +28,28 @@ import window.MouseInput;
 public class Game extends Canvas implements Runnable {
 
 	private Thread thread;
+	private Thread renderThread;
 	public static boolean running = false;
 	
 	private GameWindow window;
 	private KeyInput keyInput;
+	private MouseInput mouseInput;
 	private ObjectHandler objectHandler;
 	
-	private final int MAX_FPS = 120;
-	private final int MAX_UPS = 120;
-	private int displayedFPS, displayedUPS;
+	private static final Color BACKGROUND_COLOR = new Color(41, 41, 41);
+	// The game is drawn at a fixed resolution into this image, which is then scaled to the window in one pass
+	private VolatileImage backBuffer;
+	
+	private FramePacer framePacer = new FramePacer(LoopConstants.SPIN_THRESHOLD_NANOS);
+	private int targetFPS = LoopConstants.MAX_FPS;
+	private volatile int displayedFPS, displayedUPS;
+	
+	// Used to hand frames from the simulation thread to the render thread
+	private RenderListBuffer renderLists = new RenderListBuffer();
+	private RecordingGraphics recordingGraphics = new RecordingGraphics();
+	
+	private FrameTelemetry telemetry = new FrameTelemetry("logs/frame_times.csv", 5);
+	private long frameStartTime;
 	
 	/**
 	 * The Game class is responsible for setting up and running the game, serving as the entry point of the application.
@@ -33,7 +58,7 @@ public class Game extends Canvas implements Runnable {
 		setFocusTraversalKeysEnabled(false);
 		
 		keyInput = new KeyInput();
-		MouseInput mouseInput = new MouseInput();
+		mouseInput = new MouseInput();
 		addKeyListener(keyInput);
 		addMouseListener(mouseInput);
 		addMouseMotionListener(mouseInput);
@@ -50,7 +75,13 @@ public class Game extends Canvas implements Runnable {
 	}
 	
 	public synchronized void start() {
-		thread = new Thread(this);
+		if (LoopConstants.SEPARATE_RENDER_THREAD) {
+			thread = new Thread(this::runSimulation, "Simulation");
+			renderThread = new Thread(this::runRendering, "Render");
+			renderThread.start();
+		}
+		else
+			thread = new Thread(this);
 		thread.start();
 		running = true;
 	}
@@ -58,6 +89,8 @@ public class Game extends Canvas implements Runnable {
 	public synchronized void stop() {
 		try {
 			thread.join();
+			if (renderThread != null)
+				renderThread.join();
 			running = false;
 		} catch(InterruptedException e) {
 			e.printStackTrace();
@@ -66,108 +99,290 @@ public class Game extends Canvas implements Runnable {
 	
 	// The game loop which handles updating and rendering the entire game,
 	// while keeping track of and limiting the updates and frames per second.
+	// Updates run on a fixed time step, and between deadlines the thread is parked by the frame pacer.
 	@Override
 	public void run() {
-		final double timePerFrame = 1_000_000_000.0 / MAX_FPS;
-		final double timePerUpdate = 1_000_000_000.0 / MAX_UPS;
+		final long timePerUpdate = 1_000_000_000L / LoopConstants.MAX_UPS;
 
 		int frames = 0;
 		int updates = 0;
-		double deltaUpdates = 0;
-		double deltaFrames = 0;		
+		// Time that has passed but has not been simulated yet
+		long accumulator = 0;
 		
-		long lastCheck = 0;
-		long previousTime = System.nanoTime();				
+		long lastCheck = System.nanoTime();
+		long previousTime = lastCheck;
+		long nextFrameTime = lastCheck;
 		
 		while (true) {
 			long currentTime = System.nanoTime();
-			
-			deltaUpdates += (currentTime - previousTime) / timePerUpdate;
-			deltaFrames += (currentTime - previousTime) / timePerFrame;
+			accumulator += currentTime - previousTime;
 			previousTime = currentTime;
 			
-			// Update the game
-			if (deltaUpdates >= 1) {
+			// Update the game, catching up on missed updates up to a limit
+			int catchUpUpdates = 0;
+			while (accumulator >= timePerUpdate && catchUpUpdates < LoopConstants.MAX_CATCH_UP_UPDATES) {
 				update();
 				updates++;
-				deltaUpdates--;
+				catchUpUpdates++;
+				accumulator -= timePerUpdate;
 			}
+			// Drop the rest of the backlog so that the lag doesn't keep building up
+			if (accumulator >= timePerUpdate)
+				accumulator %= timePerUpdate;
 			
 			// Render the game
-			if (deltaFrames >= 1) {
-				render();
+			if (currentTime - nextFrameTime >= 0) {
+				render((float) accumulator / timePerUpdate);
 				frames++;
-				deltaFrames--;
+				targetFPS = keyInput.powerSavingPressed ? LoopConstants.POWER_SAVING_FPS : LoopConstants.MAX_FPS;
+				nextFrameTime += 1_000_000_000L / targetFPS;
+				// Drop the frames that were missed instead of rendering them back to back
+				if (currentTime - nextFrameTime > 0)
+					nextFrameTime = currentTime;
 			}
 			
-			if (System.currentTimeMillis() - lastCheck >= 1000) {
-				lastCheck = System.currentTimeMillis();
+			if (currentTime - lastCheck >= 1_000_000_000L) {
+				lastCheck = currentTime;
 				displayedFPS = frames;
 				displayedUPS = updates;
 				frames = updates = 0;
+				telemetry.setLoggingEnabled(keyInput.telemetryLogPressed);
+				telemetry.update(displayedFPS, displayedUPS);
 			}
+			
+			long nextUpdateTime = currentTime + timePerUpdate - accumulator;
+			framePacer.waitUntil(Math.min(nextUpdateTime, nextFrameTime));
+		}
+	}
+	
+	// The simulation loop used when rendering is done on a separate thread.
+	// Updates run on a fixed time step, and the objects are recorded into a render list after updating.
+	private void runSimulation() {
+		final long timePerUpdate = 1_000_000_000L / LoopConstants.MAX_UPS;
+		
+		int updates = 0;
+		long lastCheck = System.nanoTime();
+		long nextUpdateTime = lastCheck;
+		
+		while (true) {
+			long currentTime = System.nanoTime();
+			
+			// Update the game, catching up on missed updates up to a limit
+			int catchUpUpdates = 0;
+			while (currentTime - nextUpdateTime >= 0 && catchUpUpdates < LoopConstants.MAX_CATCH_UP_UPDATES) {
+				update();
+				updates++;
+				catchUpUpdates++;
+				nextUpdateTime += timePerUpdate;
+			}
+			// Drop the rest of the backlog so that the lag doesn't keep building up
+			if (currentTime - nextUpdateTime >= 0)
+				nextUpdateTime = currentTime + timePerUpdate;
+			
+			if (catchUpUpdates > 0)
+				recordRenderList(nextUpdateTime - timePerUpdate);
+			
+			if (currentTime - lastCheck >= 1_000_000_000L) {
+				lastCheck = currentTime;
+				displayedUPS = updates;
+				updates = 0;
+			}
+			
+			framePacer.waitUntil(nextUpdateTime);
+		}
+	}
+	
+	// The render loop used when rendering is done on a separate thread.
+	// Draws the latest render list published by the simulation thread.
+	private void runRendering() {
+		final long timePerUpdate = 1_000_000_000L / LoopConstants.MAX_UPS;
+		FramePacer renderPacer = new FramePacer(LoopConstants.SPIN_THRESHOLD_NANOS);
+		
+		int frames = 0;
+		long lastCheck = System.nanoTime();
+		long nextFrameTime = lastCheck;
+		
+		while (true) {
+			long currentTime = System.nanoTime();
+			
+			// The list is interpolated by the time that has passed since the update it was recorded at
+			RenderList renderList = renderLists.acquire();
+			float interpolation = (float) (currentTime - renderList.getUpdateTime()) / timePerUpdate;
+			render(renderList, Math.max(0, Math.min(1, interpolation)));
+			frames++;
+			targetFPS = keyInput.powerSavingPressed ? LoopConstants.POWER_SAVING_FPS : LoopConstants.MAX_FPS;
+			nextFrameTime += 1_000_000_000L / targetFPS;
+			// Drop the frames that were missed instead of rendering them back to back
+			if (currentTime - nextFrameTime > 0)
+				nextFrameTime = currentTime;
+			
+			if (currentTime - lastCheck >= 1_000_000_000L) {
+				lastCheck = currentTime;
+				displayedFPS = frames;
+				frames = 0;
+				telemetry.setLoggingEnabled(keyInput.telemetryLogPressed);
+				telemetry.update(displayedFPS, displayedUPS);
+			}
+			
+			renderPacer.waitUntil(nextFrameTime);
 		}
 	}
 	
 	private void update() {
+		long startTime = System.nanoTime();
 		objectHandler.updateObjects();
+		telemetry.recordTick(System.nanoTime() - startTime);
 	}
 	
-	private void render() {
-		BufferStrategy bs = getBufferStrategy();
-		if (bs == null) {
+	// Records the current state of the objects and publishes it to the render thread.
+	// The objects are recorded at their current positions, and the render thread interpolates them
+	// back towards their previous positions by how much of the update it hasn't shown yet.
+	private void recordRenderList(long updateTime) {
+		RenderList renderList = renderLists.getBackList();
+		renderList.clear();
+		renderList.setUpdateState(updateTime, objectHandler.getCamera());
+		recordingGraphics.reset(renderList);
+		objectHandler.renderObjects(recordingGraphics, 1f);
+		renderLists.publish();
+	}
+	
+	/**
+	 * Renders the game by drawing the objects directly.
+	 * @param interpolation how far the game is between the last update and the next one, from 0 to 1
+	 */
+	private void render(float interpolation) {
+		// The frame is drawn again if its buffers were lost while it was being drawn or shown
+		do {
+			Graphics g = beginFrame();
+			if (g == null)
+				return;
+			
+			// Render game objects
+			objectHandler.renderObjects(g, interpolation);
+			
+			endFrame(g);
+		} while (isFrameLost());
+	}
+	
+	/**
+	 * Renders the game by drawing a list that was recorded by the simulation thread.
+	 * @param renderList the list to draw
+	 * @param interpolation how far the game is between the update before the recorded one and the recorded one, from 0 to 1
+	 */
+	private void render(RenderList renderList, float interpolation) {
+		// The frame is drawn again if its buffers were lost while it was being drawn or shown
+		do {
+			Graphics g = beginFrame();
+			if (g == null)
+				return;
+			
+			// Render game objects
+			renderList.replay((Graphics2D) g, interpolation);
+			
+			endFrame(g);
+		} while (isFrameLost());
+	}
+	
+	// Returns the graphics object of the back buffer to draw the next frame with, or null if it's not ready yet
+	private Graphics beginFrame() {
+		frameStartTime = System.nanoTime();
+		if (getBufferStrategy() == null) {
 			createBufferStrategy(3);
-			return;
+			return null;
 		}
 		
-		Graphics g = bs.getDrawGraphics();
+		// The back buffer has to be created again when the display changes. If its contents were lost,
+		// validate restores the surface, and the whole frame is drawn into it anyway
+		if (backBuffer == null || backBuffer.validate(getGraphicsConfiguration()) == VolatileImage.IMAGE_INCOMPATIBLE)
+			backBuffer = createVolatileImage(ScaleConstants.GAME_WIDTH, ScaleConstants.GAME_HEIGHT);
+		if (backBuffer == null)
+			return null;
+		
+		Graphics g = backBuffer.createGraphics();
 
 		// Draw background
-		g.setColor(new Color(41, 41, 41));
-		g.fillRect(0, 0, window.getWidth(), window.getHeight());
-		
-		if (shakeCamera && shakeDuration-- < 0)
-			shakeCamera = false;
-		if (shakeCamera) {
-			g.translate(-oldTranslateX, -oldTranslateY);
-			int randomX = (int) (Math.random() * shakeMagnitude - shakeMagnitude / 2);
-			int randomY = (int) (Math.random() * shakeMagnitude - shakeMagnitude / 2);
-			g.translate(randomX, randomY);
-			oldTranslateX = randomX;
-			oldTranslateY = randomY;
-		}
-		
-		// Render game objects
-		objectHandler.renderObjects(g);
+		g.setColor(BACKGROUND_COLOR);
+		g.fillRect(0, 0, ScaleConstants.GAME_WIDTH, ScaleConstants.GAME_HEIGHT);
 		
-		// Display FPS and UPS
+		return g;
+	}
+	
+	private void endFrame(Graphics g) {
+		// Display FPS and UPS, drawn in pieces so that no strings are created every frame
 		if (keyInput.debugPressed) {
-			g.setColor(Color.WHITE);
-			g.setFont(GameConstants.FontConstants.DAMAGE_FONT);
-			g.drawString("FPS: " + displayedFPS, GameConstants.ScaleConstants.GAME_WIDTH - 77, 15);
-			g.drawString("UPS: " + displayedUPS, GameConstants.ScaleConstants.GAME_WIDTH - 80, 35);
+			BitmapFont font = FontConstants.DEBUG_TEXT;
+			int x = font.drawString(g, "FPS: ", ScaleConstants.GAME_WIDTH - 77, 15);
+			font.drawNumber(g, displayedFPS, x, 15);
+			x = font.drawString(g, "UPS: ", ScaleConstants.GAME_WIDTH - 80, 35);
+			font.drawNumber(g, displayedUPS, x, 35);
+			
+			// Display frame time percentiles in milliseconds, which are only formatted when they are updated
+			String[] telemetryLines = telemetry.getOverlayLines();
+			for (int i = 0; i < telemetryLines.length; i++)
+				font.drawString(g, telemetryLines[i], ScaleConstants.GAME_WIDTH - 370, 80 + i * 20);
+			
+			// Display how often the object pools could reuse an object
+			List<ObjectPool<?>> pools = objectHandler.getObjectPools().getPools();
+			int poolsY = 80 + (telemetryLines.length + 1) * 20;
+			for (int i = 0; i < pools.size(); i++) {
+				ObjectPool<?> pool = pools.get(i);
+				int y = poolsY + i * 20;
+				x = font.drawString(g, pool.getName(), ScaleConstants.GAME_WIDTH - 370, y);
+				x = font.drawString(g, ": ", x, y);
+				x = font.drawNumber(g, pool.getHits(), x, y);
+				x = font.drawString(g, " hits, ", x, y);
+				x = font.drawNumber(g, pool.getMisses(), x, y);
+				font.drawString(g, " misses", x, y);
+			}
 		}
 		
-		LocalDateTime now = LocalDateTime.now();
-		String time = now.getHour() + ":" + now.getMinute() + ":" + now.getSecond();
-		if (Math.min(displayedFPS, displayedUPS) < 115 && Math.min(displayedFPS, displayedUPS) > 0)
-			System.err.println("Performance drop! FPS: " + displayedFPS + " | UPS: " + displayedUPS + " | " + time);
-		else if (Math.max(displayedFPS, displayedUPS) > 125)
-			System.err.println("FPS Limit Exceeded! FPS: " + displayedFPS + " | UPS: " + displayedUPS + " | " + time);
-		
 		g.dispose();
-		bs.show();
+		presentBackBuffer();
+		long presentStartTime = System.nanoTime();
+		getBufferStrategy().show();
+		long presentEndTime = System.nanoTime();
+		
+		telemetry.recordRender(presentStartTime - frameStartTime);
+		telemetry.recordPresent(presentEndTime - presentStartTime);
+	}
+	
+	// Checks if the back buffer or the window's buffers were lost since the frame was drawn into them,
+	// in which case the frame that was shown may be garbage
+	private boolean isFrameLost() {
+		return backBuffer.contentsLost() || getBufferStrategy().contentsLost();
 	}
 	
-	// TODO temporary, ideally should be moved into a camera class
-	private static int oldTranslateX = 0, oldTranslateY = 0;
-	private static boolean shakeCamera = false;
-	private static int shakeMagnitude;
-	private static int shakeDuration;
-	public static void shakeCamera(int duration, int magnitude) {
-		shakeDuration = duration;
-		shakeCamera = true;
-		shakeMagnitude = magnitude;
+	// Scales the back buffer to the largest size that fits the window while keeping its aspect ratio,
+	// centers it, and fills the rest of the window with black bars
+	private void presentBackBuffer() {
+		int windowWidth = getWidth();
+		int windowHeight = getHeight();
+		
+		float scale = Math.min((float) windowWidth / ScaleConstants.GAME_WIDTH, (float) windowHeight / ScaleConstants.GAME_HEIGHT);
+		// The window has no area while it is minimized, so there is nothing to draw
+		if (scale <= 0)
+			return;
+		int scaledWidth = Math.round(ScaleConstants.GAME_WIDTH * scale);
+		int scaledHeight = Math.round(ScaleConstants.GAME_HEIGHT * scale);
+		int offsetX = (windowWidth - scaledWidth) / 2;
+		int offsetY = (windowHeight - scaledHeight) / 2;
+		mouseInput.setViewport(offsetX, offsetY, scale);
+		
+		// The window's buffer is drawn again if it was restored while it was being drawn
+		BufferStrategy bs = getBufferStrategy();
+		do {
+			Graphics2D g = (Graphics2D) bs.getDrawGraphics();
+			g.setColor(Color.BLACK);
+			g.fillRect(0, 0, windowWidth, offsetY);
+			g.fillRect(0, offsetY + scaledHeight, windowWidth, windowHeight - offsetY - scaledHeight);
+			g.fillRect(0, offsetY, offsetX, scaledHeight);
+			g.fillRect(offsetX + scaledWidth, offsetY, windowWidth - offsetX - scaledWidth, scaledHeight);
+			
+			// Nearest neighbor keeps the pixel art sharp
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+			g.drawImage(backBuffer, offsetX, offsetY, scaledWidth, scaledHeight, null);
+			g.dispose();
+		} while (bs.contentsRestored());
 	}
 	
 }
@@ -0,0 +1,129 @@
+package main;
+
+import java.awt.event.KeyEvent;
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Map;
+
+import floor_generation.Floor;
+import floor_generation.Room;
+import framework.GameClock;
+import framework.GameConstants.ScaleConstants;
+import framework.ObjectHandler;
+import framework.ObjectPool;
+import window.KeyInput;
+import window.MouseInput;
+
+public class HeadlessGameMain {
+
+	// Each step holds the key codes that are held down for the given number of ticks
+	private static final int[][] INPUT_SCRIPT = {
+		// ticks, keys...
+		{120, KeyEvent.VK_D},
+		{30, KeyEvent.VK_D, KeyEvent.VK_SPACE},
+		{60},
+		{120, KeyEvent.VK_A},
+		{30, KeyEvent.VK_A, KeyEvent.VK_SPACE},
+		{20, KeyEvent.VK_Q},
+		{20, KeyEvent.VK_E},
+		{20, KeyEvent.VK_SHIFT, KeyEvent.VK_D},
+		{60},
+	};
+	// Every this many ticks of the script, the attack button is held down for half of the time
+	private static final int ATTACK_PERIOD = 40;
+	
+	private static final long REPORT_INTERVAL_NANOS = 1_000_000_000L;
+
+	/**
+	 * Runs the game without a window, display or frame limit.
+	 * The player is controlled by a fixed input script, and the tick rate and the number
+	 * of objects in each room are printed periodically.
+	 * 
+	 * Usage: HeadlessGameMain [tick count] [rooms per floor]
+	 */
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+		
+		long tickCount = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+		int roomsPerFloor = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		
+		KeyInput keyInput = new KeyInput();
+		MouseInput mouseInput = new MouseInput();
+		ObjectHandler objectHandler = new ObjectHandler(keyInput, mouseInput);
+		objectHandler.setupGame(roomsPerFloor);
+		
+		int scriptLength = 0;
+		for (int[] step : INPUT_SCRIPT)
+			scriptLength += step[0];
+		
+		long startTime = System.nanoTime();
+		long lastReportTime = startTime;
+		long lastReportTick = 0;
+		for (long tick = 0; tick < tickCount; tick++) {
+			applyInput((int) (tick % scriptLength), keyInput, mouseInput);
+			objectHandler.updateObjects();
+			
+			long currentTime = System.nanoTime();
+			if (currentTime - lastReportTime >= REPORT_INTERVAL_NANOS) {
+				double ticksPerSecond = (tick + 1 - lastReportTick) * 1_000_000_000.0 / (currentTime - lastReportTime);
+				System.out.printf("Tick %d: %.0f ticks/s%n", tick + 1, ticksPerSecond);
+				printRoomCounts(objectHandler);
+				lastReportTime = currentTime;
+				lastReportTick = tick + 1;
+			}
+		}
+		
+		double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+		double gameSeconds = GameClock.getInstance().currentTimeMillis() / 1000.0;
+		System.out.printf("Finished %d ticks in %.2f s, %.0f ticks/s on average (%.1fx real time)%n", 
+				tickCount, seconds, tickCount / seconds, gameSeconds / seconds);
+		printRoomCounts(objectHandler);
+	}
+	
+	// Presses the keys of the script step that the given tick falls in, and releases the rest
+	private static void applyInput(int scriptTick, KeyInput keyInput, MouseInput mouseInput) {
+		int stepStart = 0;
+		int[] currentStep = null;
+		for (int[] step : INPUT_SCRIPT) {
+			if (scriptTick < stepStart + step[0]) {
+				currentStep = step;
+				break;
+			}
+			stepStart += step[0];
+		}
+		
+		for (int[] step : INPUT_SCRIPT)
+			for (int i = 1; i < step.length; i++)
+				keyInput.releaseKey(step[i]);
+		for (int i = 1; i < currentStep.length; i++)
+			keyInput.pressKey(currentStep[i]);
+		
+		boolean attacking = scriptTick % ATTACK_PERIOD < ATTACK_PERIOD / 2;
+		mouseInput.setState(attacking, ScaleConstants.GAME_WIDTH / 2, ScaleConstants.GAME_HEIGHT / 2);
+	}
+	
+	private static void printRoomCounts(ObjectHandler objectHandler) {
+		Floor floor = objectHandler.getFloor();
+		int roomIndex = 0;
+		for (Map.Entry<Room, Point2D> entry : floor.getRoomPositions().entrySet()) {
+			Room room = entry.getKey();
+			Point2D position = entry.getValue();
+			System.out.printf("  Room %d at (%d, %d)%s: bottom %d, middle %d, top %d%n",
+					roomIndex++,
+					(int) position.getX(), (int) position.getY(),
+					room == floor.getCurrentRoom() ? " [current]" : "",
+					room.getBottomLayer().size(),
+					room.getMiddleLayer().size(),
+					room.getTopLayer().size());
+		}
+		System.out.printf("  Menu layer: %d%n", objectHandler.getLayer(ObjectHandler.MENU_LAYER).size());
+		
+		List<ObjectPool<?>> pools = objectHandler.getObjectPools().getPools();
+		for (int i = 0; i < pools.size(); i++) {
+			ObjectPool<?> pool = pools.get(i);
+			System.out.printf("  %s pool: %d hits, %d misses, %d free%n",
+					pool.getName(), pool.getHits(), pool.getMisses(), pool.getFreeCount());
+		}
+	}
+
+}
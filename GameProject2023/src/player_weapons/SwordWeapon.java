@@ -9,6 +9,7 @@ import java.util.HashSet;
 import abstracts.GameObject;
 import abstracts.Weapon;
 import framework.Animation;
+import framework.GameClock;
 import framework.GameConstants;
 import framework.ObjectHandler;
 import framework.ObjectId.Category;
@@ -16,12 +17,9 @@ import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
 import game_objects.Explosion;
 import game_objects.player.Player;
-import player_weapons.abilities.ChainSpikeAttack;
 import player_weapons.abilities.DarkSummon;
 import player_weapons.abilities.SwordIceAttack;
 import player_weapons.abilities.WeaponAbility;
-import visual_effects.FadingTrailEffect;
-import visual_effects.OneTimeAnimation;
 import window.KeyInput;
 import window.MouseInput;
 
@@ -56,6 +54,9 @@ public class SwordWeapon extends Weapon {
 	private long dashStartTimer;
 	private int dashLengthMillis = 170;
 	private int dashLightningCount = 0;
+	// Shared by every lightning explosion of the dash
+	private static final int[] LIGHTNING_DAMAGE_FRAMES = {6, 7};
+	private static final Category[] ENEMY_TARGETS = {Category.Enemy};
 	private HashSet<GameObject> enemiesHitByDash;
 
 	private boolean spawnedSpikes = false;
@@ -149,13 +150,13 @@ public class SwordWeapon extends Weapon {
 			// Dash started
 			if (!dashing) {
 				dashing = true;
-				dashStartTimer = System.currentTimeMillis();
+				dashStartTimer = GameClock.getInstance().currentTimeMillis();
 				player.setLockMovementInputs(true);
 				player.setVelX(dashSpeedX * player.getDirection());
 				abilities[state.getIndex()].startCooldown();
 			}
 			// Dash ended or player got knocked back
-			if (player.isKnockedBack() || System.currentTimeMillis() - dashStartTimer > dashLengthMillis) {
+			if (player.isKnockedBack() || GameClock.getInstance().currentTimeMillis() - dashStartTimer > dashLengthMillis) {
 				state = ActionState.None;
 				dashing = false;
 				dashLightningCount = 0;
@@ -172,10 +173,8 @@ public class SwordWeapon extends Weapon {
 			// Spawn lightning explosions at certain times during the dash
 			dashLightningCount++;
 			if (dashLightningCount % 4 == 0) {
-				OneTimeAnimation lightningAnimation = new OneTimeAnimation(player.getX(),
-						player.getY(), TILE_SIZE, player.getHeight(), TextureName.LightningEffect, 6, objectHandler);
-				Explosion lightningExplosion = new Explosion(lightningAnimation, new int[] {6, 7}, 10,
-						new Category[] {Category.Enemy}, objectHandler);
+				Explosion lightningExplosion = objectHandler.getObjectPools().obtainExplosion(player.getX(), player.getY(),
+						TILE_SIZE, player.getHeight(), TextureName.LightningEffect, 6, LIGHTNING_DAMAGE_FRAMES, 10, ENEMY_TARGETS);
 				objectHandler.addObject(lightningExplosion, ObjectHandler.MIDDLE_LAYER);
 			}
 
@@ -184,8 +183,9 @@ public class SwordWeapon extends Weapon {
 			int playerWidth = player.getWidth();
 			int playerHeight = player.getHeight();
 			BufferedImage dashTrailImage = TextureLoader.getInstance().getTextures(TextureName.PlayerSwordDash)[dashTrailImageIndex]; 
-			objectHandler.addObject(new FadingTrailEffect(player.getX() - playerWidth / 2, player.getY() - playerHeight / 2,
-					playerWidth * 2, playerHeight * 2, dashTrailImage, 0.7f, 0.05f, objectHandler), ObjectHandler.TOP_LAYER);
+			objectHandler.addObject(objectHandler.getObjectPools().obtainFadingTrailEffect(player.getX() - playerWidth / 2,
+					player.getY() - playerHeight / 2, playerWidth * 2, playerHeight * 2, dashTrailImage, 0.7f, 0.05f),
+					ObjectHandler.TOP_LAYER);
 			break;
 
 		case SpikeChain:
@@ -199,9 +199,9 @@ public class SwordWeapon extends Weapon {
 
 			if (!spawnedSpikes) {
 				spawnedSpikes = true;
-				objectHandler.addObject(new ChainSpikeAttack(player.getX(),
+				objectHandler.addObject(objectHandler.getObjectPools().obtainChainSpikeAttack(player.getX(),
 						player.getY() + player.getHeight() - GameConstants.ScaleConstants.TILE_SIZE,
-						player.getDirection(), objectHandler), ObjectHandler.MIDDLE_LAYER);
+						player.getDirection()), ObjectHandler.MIDDLE_LAYER);
 			}
 			break;
 
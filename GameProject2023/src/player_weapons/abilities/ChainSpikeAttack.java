@@ -14,6 +14,7 @@ import framework.ObjectId.Category;
 import framework.ObjectId.Name;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
+import framework.TileMap;
 
 public class ChainSpikeAttack extends GameObject {
 
@@ -26,23 +27,41 @@ public class ChainSpikeAttack extends GameObject {
 	private int direction;
 	private boolean spawnedNextSpike = false;
 
+	// Reused by the collision checks so that spawning a spike doesn't allocate
+	private final Rectangle searchArea = new Rectangle();
+	private final Rectangle groundCheckBounds = new Rectangle();
+
 	public ChainSpikeAttack(float x, float y, int direction, ObjectHandler objectHandler) {
 		super(x, y, TILE_SIZE, TILE_SIZE, new ObjectId(Category.Missing, Name.Missing));
 		this.objectHandler = objectHandler;
 		this.direction = direction;
 
+		spikeAnimation = new Animation(TextureLoader.getInstance().getTextures(TextureName.SpikeAttack), 5, true);
 		checkBlockCollisions();
+	}
 
-		if (isOnBlock)
-			spikeAnimation = new Animation(TextureLoader.getInstance().getTextures(TextureName.SpikeAttack), 5, true);
-		else
-			objectHandler.removeObject(this);
+	/**
+	 * Prepares a removed spike to be spawned again.
+	 */
+	public void reset(float x, float y, int direction) {
+		this.x = x;
+		this.y = y;
+		this.direction = direction;
+		isOnBlock = false;
+		isInsideBlock = false;
+		spawnedNextSpike = false;
+
+		spikeAnimation.resetAnimation();
+		checkBlockCollisions();
 	}
 
 	@Override
 	public void tick() {
-		if (!isOnBlock)
+		// Spikes can only appear on top of blocks
+		if (!isOnBlock) {
+			objectHandler.removeObject(this);
 			return;
+		}
 		if (spikeAnimation.isPlayedOnce())
 			objectHandler.removeObject(this);
 
@@ -50,7 +69,7 @@ public class ChainSpikeAttack extends GameObject {
 			spawnedNextSpike = true;
 
 			if (!isInsideBlock)
-				objectHandler.addObject(new ChainSpikeAttack(x + width * direction, y, direction, objectHandler),
+				objectHandler.addObject(objectHandler.getObjectPools().obtainChainSpikeAttack(x + width * direction, y, direction),
 						ObjectHandler.MIDDLE_LAYER);
 		}
 
@@ -65,18 +84,18 @@ public class ChainSpikeAttack extends GameObject {
 	}
 
 	private void checkBlockCollisions() {
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
-
-			if (other.compareCategory(Category.Block)) {
-				if (getGroundCheckBounds().intersects(other.getBounds())) {
-					isOnBlock = true;
-					x = other.getX();
-				}
-				else if (getBounds().intersects(other.getBounds()))
-					isInsideBlock = true;
-			}	
+		searchArea.setBounds(getBounds());
+		searchArea.add(getGroundCheckBounds());
+		List<Rectangle> nearbyBlocks = objectHandler.getTileMap().queryRect(searchArea, TileMap.SOLID);
+		for (int i = nearbyBlocks.size() - 1; i >= 0; i--) {
+			Rectangle otherBounds = nearbyBlocks.get(i);
+
+			if (getGroundCheckBounds().intersects(otherBounds)) {
+				isOnBlock = true;
+				x = otherBounds.x;
+			}
+			else if (getBounds().intersects(otherBounds))
+				isInsideBlock = true;
 		}
 	}
 
@@ -85,7 +104,8 @@ public class ChainSpikeAttack extends GameObject {
 		int height = this.height / 2;
 		int x = (int) (this.x + width / 2);
 		int y = (int) (this.y + this.height);
-		return new Rectangle(x, y, width, height);
+		groundCheckBounds.setBounds(x, y, width, height);
+		return groundCheckBounds;
 	}
 
 }
@@ -5,6 +5,7 @@ import static framework.GameConstants.ScaleConstants.TILE_SIZE;
 import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 
@@ -19,15 +20,16 @@ import framework.ObjectId.Category;
 import framework.ObjectId.Name;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
+import framework.TileMap;
 import game_objects.CreatureAnimationManager;
 import game_objects.CreatureAnimationManager.AnimationType;
 import game_objects.Explosion;
 import ui.CreatureHealthBar;
-import visual_effects.DamageNumberPopup;
-import visual_effects.OneTimeAnimation;
 
 public class DarkSummon extends Creature {
 
+	private static final Category[] ENEMY_TARGETS = {Category.Enemy};
+
 	private CreatureAnimationManager animationManager;
 	private BufferedImage[] jumpSprites;
 
@@ -42,6 +44,10 @@ public class DarkSummon extends Creature {
 	private DurationTracker attackDurationTracker;
 	private boolean attacking = false;
 
+	private final Rectangle jumpCheckBounds = new Rectangle();
+	private final Rectangle attackBounds = new Rectangle();
+	private final List<GameObject> nearbyEnemies = new ArrayList<>();
+
 	public DarkSummon(int x, int y, int direction, int damage, int explosionDamage, int maxHealth, ObjectHandler objectHandler) {
 		super(x, y, TILE_SIZE, TILE_SIZE, damage, maxHealth, objectHandler, new ObjectId(Category.FriendlySummon, Name.Missing));
 		this.direction = direction;
@@ -100,8 +106,8 @@ public class DarkSummon extends Creature {
 		int directionIndex = direction == 1 ? 0 : 1;
 		final int width = (int) (this.width * 1.5f);
 		final int height = (int) (this.height * 1.5f);
-		final int x = (int) (this.x - (width - this.width) / 2);
-		final int y = (int) (this.y - (height - this.height));
+		final int x = (int) (getRenderX() - (width - this.width) / 2);
+		final int y = (int) (getRenderY() - (height - this.height));
 
 		if (!summonComplete)
 			animationManager.drawAnimation(AnimationType.Summon, g, direction, invulnerable,
@@ -121,14 +127,17 @@ public class DarkSummon extends Creature {
 	private void handleCollisions() {
 		falling = true;
 
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
-			Rectangle otherBounds = other.getBounds();
+		// Attacking an enemy can cause other queries, so the result is kept in a separate list
+		objectHandler.getSpatialGrid().queryRect(getCollisionSearchArea(), Category.Enemy, nearbyEnemies);
+		for (int i = nearbyEnemies.size() - 1; i >= 0; i--) {
+			GameObject other = nearbyEnemies.get(i);
+			// Enemies that died during this update are only removed after it
+			if (((Creature) other).isDead())
+				continue;
 
 			// Attack1 enemies when they get in range
-			if (!knockedBack && other.compareCategory(Category.Enemy)) {
-				if (getGroundAttackBounds().intersects(otherBounds)) {
+			if (!knockedBack) {
+				if (getGroundAttackBounds().intersects(other.getBounds())) {
 					velX = 0;
 					if (x > other.getX())
 						direction = -1;
@@ -146,58 +155,60 @@ public class DarkSummon extends Creature {
 					}
 				}
 			}
+		}
 
-			// Collision with Blocks
-			if (other.getObjectId().getCategory() == Category.Block ||
-					(other.getObjectId().getCategory() == Category.JumpThroughBlock && getVelY() > 0)) {
+		// Collision with Blocks, and with Jump Through Blocks while falling
+		int tileFlags = getVelY() > 0 ? TileMap.SOLID | TileMap.ONE_WAY : TileMap.SOLID;
+		List<Rectangle> nearbyTiles = objectHandler.getTileMap().queryRect(getCollisionSearchArea(), tileFlags);
+		for (int i = nearbyTiles.size() - 1; i >= 0; i--) {
+			Rectangle otherBounds = nearbyTiles.get(i);
 
-				if (getGroundCheckBounds().intersects(otherBounds))
-					falling = false;
+			if (getGroundCheckBounds().intersects(otherBounds))
+				falling = false;
 
-				// Attempt to jump over blocks when they get in a certain range
-				if (!jumping && !falling && getJumpCheckBounds().intersects(otherBounds)) {
-					jumping = true;
-					velY = jumpingSpeed;
-				}
+			// Attempt to jump over blocks when they get in a certain range
+			if (!jumping && !falling && getJumpCheckBounds().intersects(otherBounds)) {
+				jumping = true;
+				velY = jumpingSpeed;
+			}
 
-				// Bottom collision
-				if (getBottomBounds().intersects(otherBounds)) {
-					y = other.getY() - height;
-					velY = 0;
-					jumping = false;
+			// Bottom collision
+			if (getBottomBounds().intersects(otherBounds)) {
+				y = otherBounds.y - height;
+				velY = 0;
+				jumping = false;
 
-					// Reset knock back status after hitting the ground
-					if (knockedBack) {
-						knockedBack = false;
-						velX = 0;
-					}
+				// Reset knock back status after hitting the ground
+				if (knockedBack) {
+					knockedBack = false;
+					velX = 0;
 				}
+			}
 
-				// Horizontal collision
-				if (getHorizontalBounds().intersects(otherBounds)) {
-					int xDiff = (int) (x - other.getX());
-					// Player is to the left of the object
-					if (xDiff < 0)
-						x = other.getX() - getHorizontalBounds().width;
-					// Player is to the right of the object
-					else
-						x = other.getX() + other.getWidth();
-
-					velX *= -1;
-				}
+			// Horizontal collision
+			if (getHorizontalBounds().intersects(otherBounds)) {
+				int xDiff = (int) (x - otherBounds.x);
+				// Player is to the left of the object
+				if (xDiff < 0)
+					x = otherBounds.x - getHorizontalBounds().width;
+				// Player is to the right of the object
+				else
+					x = otherBounds.x + otherBounds.width;
+
+				velX *= -1;
+			}
 
-				// Top collision
-				if (getTopBounds().intersects(otherBounds)) {
-					y = other.getY() + other.getHeight();
-					velY = 0;
-				}
+			// Top collision
+			if (getTopBounds().intersects(otherBounds)) {
+				y = otherBounds.y + otherBounds.height;
+				velY = 0;
 			}
 		}
 	}
 
 	@Override
 	public void takeDamage(int damageAmount, int invulnerabilityDuration) {
-		if (invulnerable)
+		if (invulnerable || dead)
 			return;
 
 		if (invulnerabilityDuration != 0) {
@@ -207,7 +218,7 @@ public class DarkSummon extends Creature {
 		}
 
 		setHealth(health - damageAmount);
-		objectHandler.addObject(new DamageNumberPopup(x + width / 3, y - height / 5, damageAmount, objectHandler), ObjectHandler.MENU_LAYER);
+		objectHandler.getCombatTextManager().showDamage(this, x + width / 3, y - height / 5, damageAmount);
 
 		if (health <= 0)
 			die();
@@ -215,7 +226,7 @@ public class DarkSummon extends Creature {
 
 	@Override
 	public void applyKnockback(float velX, float velY) {
-		if (invulnerable)
+		if (invulnerable || dead)
 			return;
 
 		resetAnimations();
@@ -227,15 +238,16 @@ public class DarkSummon extends Creature {
 
 	@Override
 	public void die() {
+		if (dead)
+			return;
+		dead = true;
 		objectHandler.removeObject(this);
 
 		int smokeSize = (int) (TILE_SIZE * 2f);
 		int smokeX = (int) ((x + width / 2) - smokeSize / 2);
 		int smokeY = (int) ((y + height / 2) - smokeSize / 2);
-		OneTimeAnimation darkSmokeAnimation = new OneTimeAnimation(smokeX, smokeY, smokeSize, smokeSize,
-				TextureName.DarkSmokeEffect, 8, objectHandler);
-		Explosion explosion = new Explosion(darkSmokeAnimation, explosionDamage, 
-				new Category[] {Category.Enemy}, objectHandler);
+		Explosion explosion = objectHandler.getObjectPools().obtainExplosion(smokeX, smokeY, smokeSize, smokeSize,
+				TextureName.DarkSmokeEffect, 8, null, explosionDamage, ENEMY_TARGETS);
 		objectHandler.addObject(explosion, ObjectHandler.MIDDLE_LAYER);
 	}
 
@@ -247,14 +259,16 @@ public class DarkSummon extends Creature {
 		else
 			boundsX = (int) (x - boundsWidth);
 
-		return new Rectangle(boundsX, (int) y, boundsWidth, height);
+		jumpCheckBounds.setBounds(boundsX, (int) y, boundsWidth, height);
+		return jumpCheckBounds;
 	}
 
 	@Override
 	protected Rectangle getGroundAttackBounds() {
 		int boundsWidth = (int) (width * 1.1f);
 		int boundsX = (int) (x + (width - boundsWidth) / 2);
-		return new Rectangle(boundsX, (int) y, boundsWidth, height);
+		attackBounds.setBounds(boundsX, (int) y, boundsWidth, height);
+		return attackBounds;
 	}
 
 	private void setupAnimations() {
@@ -3,7 +3,6 @@ package player_weapons.abilities;
 import static framework.GameConstants.ScaleConstants.TILE_SIZE;
 
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -16,6 +15,7 @@ import framework.ObjectHandler;
 import framework.ObjectId;
 import framework.ObjectId.Category;
 import framework.ObjectId.Name;
+import framework.SpriteFrame;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
 
@@ -33,6 +33,7 @@ public class SwordIceAttack extends GameObject {
 	private float[] swordAngles;
 	
 	private DurationTracker swordDurationTracker;
+	private SpriteFrame swordFrame;
 	
 	// Enemies hit by each sword is stored in this list.
 	// This is for preventing an enemy to get hit twice by the same sword in the same rotation.
@@ -74,6 +75,7 @@ public class SwordIceAttack extends GameObject {
 			swordAngles[i] = i * (TWO_PI / swordCount);
 		
 		texture = TextureLoader.getInstance().getTextures(TextureName.IceSword)[0];
+		swordFrame = TextureLoader.getInstance().getFrame(texture);
 	}
 
 	@Override
@@ -100,30 +102,35 @@ public class SwordIceAttack extends GameObject {
 
 	@Override
 	public void render(Graphics g) {
-		Graphics2D g2d = (Graphics2D) g;
 		float centerX = (float) centerObject.getBounds().getCenterX();
 		float centerY = (float) centerObject.getBounds().getCenterY();
+		// Each sword is turned by its angle and moved to its place on the circle
+		float swordCenterY = y + height / 2f - centerY;
 		for (int i = 0; i < swordCount; i++) {
-			g2d.rotate(swordAngles[i], centerX, centerY);
-			g.drawImage(texture, (int) x, (int) y, width, height, null);
-			g2d.rotate(-swordAngles[i], centerX, centerY);
+			float sin = (float) Math.sin(swordAngles[i]);
+			float cos = (float) Math.cos(swordAngles[i]);
+			swordFrame.drawRotated(g, centerX - swordCenterY * sin, centerY + swordCenterY * cos, width, height, swordAngles[i]);
 		}
 	}
 	
 	private void checkEnemyCollision() {
-		List<GameObject> midLayer = objectHandler.getLayer(ObjectHandler.MIDDLE_LAYER);
-		for (int i = midLayer.size() - 1; i >= 0; i--) {
-			GameObject other = midLayer.get(i);
+		List<GameObject> enemies = objectHandler.getObjectsByCategory(Category.Enemy);
+		for (int i = enemies.size() - 1; i >= 0; i--) {
+			// An enemy that dies is removed from the list
+			if (i >= enemies.size())
+				continue;
+			GameObject other = enemies.get(i);
+			// Enemies that died during this update are only removed after it
+			if (((Creature) other).isDead())
+				continue;
 			
-			if (other.compareCategory(Category.Enemy)) {
-				Rectangle[] swordBounds = getSwordBounds();
-				for (int j = 0; j < swordCount; j++) {
-					Rectangle bounds = swordBounds[j];
-					if (!enemiesHit.get(j).contains(other) && bounds.intersects(other.getBounds())) {
-						enemiesHit.get(j).add(other);
-						Creature otherCreature = (Creature) other;
-						otherCreature.takeDamage(damage, 0);
-					}
+			Rectangle[] swordBounds = getSwordBounds();
+			for (int j = 0; j < swordCount; j++) {
+				Rectangle bounds = swordBounds[j];
+				if (!enemiesHit.get(j).contains(other) && bounds.intersects(other.getBounds())) {
+					enemiesHit.get(j).add(other);
+					Creature otherCreature = (Creature) other;
+					otherCreature.takeDamage(damage, 0);
 				}
 			}
 		}
@@ -148,7 +155,8 @@ public class SwordIceAttack extends GameObject {
 		int h = centerObject.getHeight() + radius + height;
 		int xx = (int) (centerObject.getX() - radius / 2 - width / 2);
 		int yy = (int) (centerObject.getY() - radius / 2 - height / 2);
-		return new Rectangle(xx, yy, w, h);
+		bounds.setBounds(xx, yy, w, h);
+		return bounds;
 	}
 
 }
@@ -1,6 +1,7 @@
 package player_weapons.abilities;
 
 import framework.Animation;
+import framework.GameClock;
 
 public class WeaponAbility {
 
@@ -13,17 +14,17 @@ public class WeaponAbility {
 	
 	public WeaponAbility(int cooldownMillis, int damage, Animation[] animations) {
 		this.cooldownMillis = cooldownMillis;
-		lastUsedTimer = 0;
+		lastUsedTimer = -cooldownMillis;
 		this.animations = animations;
 		this.damage = damage;
 	}
 	
 	public boolean isOnCooldown() {
-		return System.currentTimeMillis() - lastUsedTimer < cooldownMillis;
+		return GameClock.getInstance().currentTimeMillis() - lastUsedTimer < cooldownMillis;
 	}
 	
 	public void startCooldown() {
-		lastUsedTimer = System.currentTimeMillis();
+		lastUsedTimer = GameClock.getInstance().currentTimeMillis();
 	}
 	
 	public void resetCooldown() {
@@ -40,7 +41,7 @@ public class WeaponAbility {
 	}
 	
 	public int timeLeftUntilReady() {
-		return (int) (cooldownMillis - (System.currentTimeMillis() - lastUsedTimer)); 
+		return (int) (cooldownMillis - (GameClock.getInstance().currentTimeMillis() - lastUsedTimer)); 
 	}
 	
 	public int getCooldown() {
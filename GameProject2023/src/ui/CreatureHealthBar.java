@@ -4,6 +4,7 @@ import static framework.GameConstants.ScaleConstants.TILE_SIZE;
 
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
+import java.util.HashMap;
 
 import abstracts.Creature;
 import abstracts.GameObject;
@@ -11,6 +12,7 @@ import framework.BufferedImageUtil;
 import framework.ObjectId;
 import framework.ObjectId.Category;
 import framework.ObjectId.Name;
+import framework.SpriteFrame;
 import framework.TextureLoader;
 import framework.TextureLoader.TextureName;
 
@@ -19,7 +21,11 @@ public class CreatureHealthBar extends GameObject {
 	private Creature parentObject;
 	private int yOffset = 0;
 
-	private BufferedImage[] textures;
+	// The scaled health bar and damage effect bar for each bar width, shared by all creatures
+	private static HashMap<Integer, BufferedImage[]> scaledBarsByWidth = new HashMap<>();
+
+	private SpriteFrame backgroundFrame;
+	private BufferedImage healthBarImage, damagedBarImage;
 	
 	private int prevHealth;
 	private float healthDiff = 0, deltaHealthDiff = 0.5f;
@@ -33,7 +39,18 @@ public class CreatureHealthBar extends GameObject {
 		width = (int) (unitHealthWidth * parentObject.getMaxHealth());
 		height = (int) (TILE_SIZE * 0.12f);
 		
-		textures = TextureLoader.getInstance().getTextures(TextureName.CreatureHealthBar);
+		SpriteFrame[] frames = TextureLoader.getInstance().getFrames(TextureName.CreatureHealthBar);
+		backgroundFrame = frames[0];
+		BufferedImage[] scaledBars = scaledBarsByWidth.get(width);
+		if (scaledBars == null) {
+			scaledBars = new BufferedImage[] {
+					BufferedImageUtil.getScaledInstance(frames[1].getImage(), width, height),
+					BufferedImageUtil.getScaledInstance(frames[2].getImage(), width, height),
+			};
+			scaledBarsByWidth.put(width, scaledBars);
+		}
+		healthBarImage = scaledBars[0];
+		damagedBarImage = scaledBars[1];
 	}
 	
 	@Override
@@ -64,31 +81,25 @@ public class CreatureHealthBar extends GameObject {
 			return;
 		if (health == 0)
 			return;
+		
+		// Follow the interpolated position of the parent instead of the one from the last update
+		int x = (int) (parentObject.getRenderX() + parentObject.getWidth() / 2 - width / 2);
+		int y = (int) parentObject.getRenderY() + yOffset;
 
 		// Health bar background
-		g.drawImage(textures[0], (int) x - 4, (int) y - 3, width + 6, height + 6, null);
+		backgroundFrame.draw(g, x - 4, y - 3, width + 6, height + 6);
 		
 		// Health bar damage effect
 		if (healthDiff < 0) {
 			float healthRatio = (float) (health - healthDiff) / maxHealth;
 			int newBarWidth = (int) (width * healthRatio);
-			BufferedImage damagedBarImage = BufferedImageUtil.getScaledInstance(
-					textures[2],
-					width,
-					height);
-			damagedBarImage = BufferedImageUtil.getLeftClippedImage(damagedBarImage, newBarWidth);
-			g.drawImage(damagedBarImage, (int) x, (int) y, null);
+			BufferedImageUtil.drawLeftClippedImage(g, damagedBarImage, x, y, newBarWidth);
 		}
 		
 		// Health bar
 		float healthRatio = (float) health / parentObject.getMaxHealth();
 		int newBarWidth = (int) (width * healthRatio);
-		BufferedImage healthBarImage = BufferedImageUtil.getScaledInstance(
-				textures[1],
-				width,
-				height);
-		healthBarImage = BufferedImageUtil.getLeftClippedImage(healthBarImage, newBarWidth);
-		g.drawImage(healthBarImage, (int) x, (int) y, null);
+		BufferedImageUtil.drawLeftClippedImage(g, healthBarImage, x, y, newBarWidth);
 	}
 
 }
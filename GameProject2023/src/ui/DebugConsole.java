@@ -1,11 +1,12 @@
 package ui;
 
 import java.awt.Color;
-import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 
 import abstracts.GameObject;
+import framework.BitmapFont;
+import framework.GameConstants.FontConstants;
 import framework.ObjectHandler;
 import framework.ObjectId;
 import framework.ObjectId.Category;
@@ -15,6 +16,8 @@ import window.KeyInput;
 
 public class DebugConsole extends GameObject {
 
+	private static final Color BACKGROUND_COLOR = new Color(0, 0, 0, 150);
+
 	private KeyInput keyInput;
 	private ObjectHandler objectHandler;
 	
@@ -35,28 +38,41 @@ public class DebugConsole extends GameObject {
 			int x = (int) this.x;
 			int y = (int) this.y;
 			
-			g.setFont(new Font("Calibri", Font.PLAIN, 15));
-			g.setColor(new Color(0, 0, 0, 150));
+			g.setColor(BACKGROUND_COLOR);
 			g.fillRect(x - 5, y, 170, 215);
 
-			g.setColor(new Color(220, 80, 80));
-			g.drawString("Health......................" + player.getHealth(), x, y += 20);
+			FontConstants.DEBUG_HEALTH_TEXT.drawString(g, "Health......................" + player.getHealth(), x, y += 20);
 			
-			g.setColor(Color.CYAN);
-			g.drawString("velX: " + player.getVelX(), x, y += 20);
-			g.drawString("velY: " + player.getVelY(), x, y += 20);
-
-			g.setColor(Color.white);
-			g.drawString("Falling....................." + player.isFalling(), x, y += 20);
-			g.drawString("Jumping.................." + player.isJumping(), x, y += 20);
-			g.drawString("Double Jumping......." + player.isDoubleJumping(), x, y += 20);
-			g.drawString("Landing..............." + player.isLanding(), x, y += 20);
-			g.drawString("Invulnerable............" + player.isInvulnerable(), x, y += 20);
-			g.drawString("Knocked back.........." + player.isKnockedBack(), x, y += 20);
+			FontConstants.DEBUG_VELOCITY_TEXT.drawString(g, "velX: " + player.getVelX(), x, y += 20);
+			FontConstants.DEBUG_VELOCITY_TEXT.drawString(g, "velY: " + player.getVelY(), x, y += 20);
+
+			BitmapFont font = FontConstants.DEBUG_TEXT;
+			font.drawString(g, "Falling....................." + player.isFalling(), x, y += 20);
+			font.drawString(g, "Jumping.................." + player.isJumping(), x, y += 20);
+			font.drawString(g, "Double Jumping......." + player.isDoubleJumping(), x, y += 20);
+			font.drawString(g, "Landing..............." + player.isLanding(), x, y += 20);
+			font.drawString(g, "Invulnerable............" + player.isInvulnerable(), x, y += 20);
+			font.drawString(g, "Knocked back.........." + player.isKnockedBack(), x, y += 20);
 
+			// The bounds are in world space
 			Graphics2D g2d = (Graphics2D) g;
+			objectHandler.beginWorldSpace(g2d);
 			g2d.setColor(Color.white);
 			g2d.draw(player.getBounds());
+			objectHandler.endWorldSpace(g2d);
+		}
+		
+		// Most expensive objects and layers of the last second
+		if (objectHandler.getProfiler().isEnabled()) {
+			String[] reportLines = objectHandler.getProfiler().getReportLines();
+			int x = (int) this.x;
+			int y = (int) this.y + 225;
+			
+			g.setColor(BACKGROUND_COLOR);
+			g.fillRect(x - 5, y, 360, 10 + reportLines.length * 18);
+			
+			for (String line : reportLines)
+				FontConstants.DEBUG_TEXT.drawString(g, line, x, y += 18);
 		}
 	}
 
@@ -2,16 +2,15 @@ package ui;
 
 import static framework.GameConstants.ScaleConstants.TILE_SIZE;
 
-import java.awt.Font;
 import java.awt.Graphics;
-import java.awt.Point;
 import java.awt.image.BufferedImage;
 
 import abstracts.GameObject;
+import framework.BitmapFont;
 import framework.BufferedImageUtil;
-import framework.FontUtil;
 import framework.GameConstants.FontConstants;
 import framework.ObjectId;
+import framework.SpriteFrame;
 import framework.ObjectId.Category;
 import framework.ObjectId.Name;
 import framework.TextureLoader;
@@ -25,13 +24,23 @@ public class HUD extends GameObject {
 	private int prevPlayerHealth;
 	private float healthDiff = 0, deltaHealthDiff = 0.5f;
 
-	private BufferedImage[] hudTextures;
+	private final int portraitSize = (int) (TILE_SIZE * 1.8f);
+	private final int healthBarWidth = (int) (TILE_SIZE * 3.5f);
+	private final int healthBarHeight = (int) (TILE_SIZE * 0.6f);
+	private final int moneyBarWidth = (int) (TILE_SIZE * 2.4f);
+	private final int moneyBarHeight = (int) (TILE_SIZE * 0.8f);
+
+	private SpriteFrame[] hudFrames;
+	// The health bars are scaled once, and only the visible part of them is drawn every frame
+	private BufferedImage healthBarImage, damagedBarImage;
 
 	public HUD(float x, float y, int width, int height, Player player) {
 		super(x, y, width, height, new ObjectId(Category.Menu, Name.Missing));
 		this.player = player;
 
-		hudTextures = TextureLoader.getInstance().getTextures(TextureName.HUD);
+		hudFrames = TextureLoader.getInstance().getFrames(TextureName.HUD);
+		healthBarImage = BufferedImageUtil.getScaledInstance(hudFrames[3].getImage(), healthBarWidth, healthBarHeight);
+		damagedBarImage = BufferedImageUtil.getScaledInstance(hudFrames[4].getImage(), healthBarWidth, healthBarHeight);
 	}
 
 	@Override
@@ -56,54 +65,36 @@ public class HUD extends GameObject {
 		
 		final int x = (int) this.x;
 		final int y = (int) this.y;
-		final int portraitSize = (int) (TILE_SIZE * 1.8f);
-		final int healthBarWidth = (int) (TILE_SIZE * 3.5f);
-		final int healthBarHeight = (int) (TILE_SIZE * 0.6f);
-		final int moneyBarWidth = (int) (TILE_SIZE * 2.4f);
-		final int moneyBarHeight = (int) (TILE_SIZE * 0.8f);
 
 		// Player portrait
-		g.drawImage(hudTextures[0], x, y, portraitSize, portraitSize, null);
-		g.drawImage(hudTextures[1], x, y, portraitSize, portraitSize, null);
+		hudFrames[0].draw(g, x, y, portraitSize, portraitSize);
+		hudFrames[1].draw(g, x, y, portraitSize, portraitSize);
 
 		// Player health bar background
-		g.drawImage(hudTextures[2], x + portraitSize, y, healthBarWidth, healthBarHeight, null);
+		hudFrames[2].draw(g, x + portraitSize, y, healthBarWidth, healthBarHeight);
 
 		// Health bar damage effect
 		if (healthDiff < 0) {
 			float playerHealthRatio = (float) (player.getHealth() - healthDiff) / player.getMaxHealth();
 			int newBarWidth = (int) (healthBarWidth * playerHealthRatio);
-			BufferedImage damagedBarImage = BufferedImageUtil.getScaledInstance(
-					hudTextures[4],
-					healthBarWidth,
-					healthBarHeight);
-			damagedBarImage = BufferedImageUtil.getLeftClippedImage(damagedBarImage, newBarWidth);
-			g.drawImage(damagedBarImage, x + portraitSize, y, null);
+			BufferedImageUtil.drawLeftClippedImage(g, damagedBarImage, x + portraitSize, y, newBarWidth);
 		}
 
 		// Player health bar
 		if (player.getHealth() > 0) {
 			float playerHealthRatio = (float) player.getHealth() / player.getMaxHealth();
 			int newBarWidth = (int) (healthBarWidth * playerHealthRatio);
-			BufferedImage healthBarImage = BufferedImageUtil.getScaledInstance(
-					hudTextures[3],
-					healthBarWidth,
-					healthBarHeight);
-			healthBarImage = BufferedImageUtil.getLeftClippedImage(healthBarImage, newBarWidth);
-			g.drawImage(healthBarImage, x + portraitSize, y, null);
+			BufferedImageUtil.drawLeftClippedImage(g, healthBarImage, x + portraitSize, y, newBarWidth);
 		}
 
 		// Player money background
-		g.drawImage(hudTextures[5], x + portraitSize, y + healthBarHeight, moneyBarWidth, moneyBarHeight, null);
+		hudFrames[5].draw(g, x + portraitSize, y + healthBarHeight, moneyBarWidth, moneyBarHeight);
 		
 		// Player money amount
-		g.setColor(FontConstants.WHITE_FONT_COLOR);
-		Font font = FontConstants.UI_FONT;
-		g.setFont(font);
-		String coinText = player.getCoinCount() + "";
-		Point textCenter = new Point(x + portraitSize + moneyBarWidth / 4, y + healthBarHeight + moneyBarHeight / 2);
-		Point alignedTextPosition = FontUtil.getTextPositionForLeftAlignment(g, font, textCenter, coinText);
-		g.drawString(coinText, alignedTextPosition.x, alignedTextPosition.y - 2);
+		BitmapFont font = FontConstants.UI_TEXT;
+		int textX = x + portraitSize + moneyBarWidth / 4;
+		int textY = y + healthBarHeight + moneyBarHeight / 2 + font.getHeight() / 2 - font.getDescent();
+		font.drawNumber(g, player.getCoinCount(), textX, textY - 2);
 	}
 
 }
@@ -4,7 +4,6 @@ import static framework.GameConstants.ScaleConstants.TILE_COLUMNS;
 import static framework.GameConstants.ScaleConstants.TILE_ROWS;
 import static framework.GameConstants.ScaleConstants.TILE_SIZE;
 
-import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.event.MouseEvent;
@@ -13,6 +12,7 @@ import java.awt.image.BufferedImage;
 import abstracts.GameObject;
 import abstracts.Item;
 import abstracts.WeaponItem;
+import framework.GameClock;
 import framework.GameConstants;
 import framework.ObjectHandler;
 import framework.ObjectId;
@@ -56,8 +56,11 @@ public class Inventory extends GameObject implements MouseInputObserver {
 			itemSlots = new Slot[hotbarSlots];
 			slotCooldownTimers = new long[hotbarSlots];
 			
-			for (int i = 0; i < hotbarSlots; i++)
+			for (int i = 0; i < hotbarSlots; i++) {
 				itemSlots[i] = new Slot();
+				// Start with the cooldown ready
+				slotCooldownTimers[i] = -slotCooldownMillis - 1;
+			}
 		}
 
 		public boolean equipItem(Item item, int quantity) {
@@ -105,11 +108,11 @@ public class Inventory extends GameObject implements MouseInputObserver {
 		}
 		
 		public void startSlotCooldownTimer(int index) {
-			slotCooldownTimers[index] = System.currentTimeMillis();
+			slotCooldownTimers[index] = GameClock.getInstance().currentTimeMillis();
 		}
 		
 		public boolean isSlotCooldownReady(int index) {
-			return System.currentTimeMillis() - slotCooldownTimers[index] > slotCooldownMillis;
+			return GameClock.getInstance().currentTimeMillis() - slotCooldownTimers[index] > slotCooldownMillis;
 		}
 	}
 	private Hotbar hotbar;
@@ -218,11 +221,9 @@ public class Inventory extends GameObject implements MouseInputObserver {
 
 					// Write the current stack size of the item in the slot
 					if (slot.quantity > 1) {
-						g.setColor(Color.BLACK);
-						g.setFont(GameConstants.FontConstants.INVENTORY_FONT);
 						int stackTextX = (int) x + iconOffset + cellSize / 20 + j * cellSize;
 						int stackTextY = (int) y + iconOffset + cellSize / 4 + i * cellSize;
-						g.drawString(slot.quantity + "", stackTextX, stackTextY);
+						GameConstants.FontConstants.INVENTORY_TEXT.drawNumber(g, slot.quantity, stackTextX, stackTextY);
 					}
 				}
 			}
@@ -264,11 +265,9 @@ public class Inventory extends GameObject implements MouseInputObserver {
 			if (hotbarItem != null) {
 				g.drawImage(hotbarItem.getItemIcon(), iconX, iconY, iconSize, iconSize, null);
 				
-				g.setColor(Color.BLACK);
-				g.setFont(GameConstants.FontConstants.INVENTORY_FONT);
 				int stackTextX = iconX + cellSize / 20;
 				int stackTextY = iconY + cellSize / 4;
-				g.drawString(hotbar.itemSlots[i].quantity + "", stackTextX, stackTextY);
+				GameConstants.FontConstants.INVENTORY_TEXT.drawNumber(g, hotbar.itemSlots[i].quantity, stackTextX, stackTextY);
 			}
 		}
 
@@ -280,12 +279,9 @@ public class Inventory extends GameObject implements MouseInputObserver {
 			g.drawImage(itemImage, itemImageX, itemImageY, iconSize, iconSize, null);
 
 			if (carriedSlot.quantity > 1) {
-				g.setColor(Color.BLACK);
-				g.setFont(GameConstants.FontConstants.INVENTORY_FONT);
-				String stackText = carriedSlot.quantity + "";
 				int stackTextX = itemImageX + cellSize / 20;
 				int stackTextY = itemImageY + cellSize / 4;
-				g.drawString(stackText, stackTextX, stackTextY);
+				GameConstants.FontConstants.INVENTORY_TEXT.drawNumber(g, carriedSlot.quantity, stackTextX, stackTextY);
 			}
 		}
 	}
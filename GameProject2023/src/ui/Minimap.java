@@ -4,7 +4,9 @@ import static framework.GameConstants.ScaleConstants.GAME_WIDTH;
 import static framework.GameConstants.ScaleConstants.TILE_SIZE;
 
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.Transparency;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
@@ -16,6 +18,7 @@ import abstracts.GameObject;
 import floor_generation.Floor;
 import floor_generation.Room;
 import floor_generation.RoomDirection;
+import framework.BufferedImageUtil;
 import framework.GameConstants;
 import framework.ObjectId;
 import framework.ObjectId.Category;
@@ -31,6 +34,11 @@ public class Minimap extends GameObject {
 
 	private BufferedImage[] textures;
 	
+	// The whole map is drawn into this image, which is drawn again only when the player enters another room
+	private BufferedImage mapImage;
+	private Rectangle mapBounds;
+	private Room mapImageRoom;
+	
 	public Minimap(int width, int height, Floor floor) {
 		super(GAME_WIDTH - width, 0, width, height, new ObjectId(Category.Menu, Name.Missing));
 		this.floor = floor;
@@ -43,6 +51,7 @@ public class Minimap extends GameObject {
 		int roomSize = TILE_SIZE / 3;
 		calculateRoomBounds(roomSize, TILE_SIZE / 4, TILE_SIZE / 12);
 		stickMapToTopRight(roomSize);
+		calculateMapBounds();
 	}
 
 	// TODO Make the map transparent if it collides with important game objects
@@ -51,6 +60,22 @@ public class Minimap extends GameObject {
 
 	@Override
 	public void render(Graphics g) {
+		if (mapBounds == null)
+			return;
+		
+		if (mapImage == null || mapImageRoom != floor.getCurrentRoom()) {
+			mapImageRoom = floor.getCurrentRoom();
+			mapImage = createMapImage();
+		}
+		g.drawImage(mapImage, mapBounds.x, mapBounds.y, null);
+	}
+	
+	// A new image is created instead of drawing over the old one, since a render list may still refer to it
+	private BufferedImage createMapImage() {
+		BufferedImage image = BufferedImageUtil.createCompatibleImage(mapBounds.width, mapBounds.height, Transparency.TRANSLUCENT);
+		Graphics2D g = image.createGraphics();
+		g.translate(-mapBounds.x, -mapBounds.y);
+		
 		// Draw the connector shapes
 		for (Rectangle rect : neighborConnections)
 			g.drawImage(textures[3], rect.x, rect.y, rect.width, rect.height, null);
@@ -66,6 +91,17 @@ public class Minimap extends GameObject {
 			Rectangle rect = entry.getValue();
 			g.drawImage(texture, rect.x, rect.y, rect.width, rect.height, null);
 		}
+		
+		g.dispose();
+		return image;
+	}
+	
+	// Finds the area that contains every room and connection
+	private void calculateMapBounds() {
+		for (Rectangle rect : roomBounds.values())
+			mapBounds = mapBounds == null ? new Rectangle(rect) : mapBounds.union(rect);
+		for (Rectangle rect : neighborConnections)
+			mapBounds = mapBounds == null ? new Rectangle(rect) : mapBounds.union(rect);
 	}
 
 	private void calculateRoomBounds(int roomSize, int connectionLength, int connectionWidth) {
@@ -0,0 +1,86 @@
+package visual_effects;
+
+import java.awt.Graphics;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+import abstracts.GameObject;
+import framework.ObjectHandler;
+import framework.ObjectId;
+import framework.ObjectId.Category;
+import framework.ObjectId.Name;
+
+public class CombatTextManager extends GameObject {
+
+	private static final int MAX_VISIBLE_POPUPS = 16;
+	private static final long MERGE_WINDOW_MILLIS = 400;
+
+	// Ordered from the oldest to the newest popup
+	private ArrayList<DamageNumberPopup> activePopups = new ArrayList<>(MAX_VISIBLE_POPUPS);
+	private ArrayDeque<DamageNumberPopup> pooledPopups = new ArrayDeque<>(MAX_VISIBLE_POPUPS);
+	private ObjectHandler objectHandler;
+
+	/**
+	 * The CombatTextManager class is a single object on the menu layer that shows all damage numbers.
+	 * Hits on the same target that come in quick succession are added to one popup, finished popups
+	 * are reused for the next hits, and the oldest popup is replaced once too many are visible.
+	 * The popups are placed in world space, so they are drawn with the camera's translation.
+	 *
+	 * @param objectHandler the reference to the ObjectHandler
+	 */
+	public CombatTextManager(ObjectHandler objectHandler) {
+		super(0, 0, 0, 0, new ObjectId(Category.Menu, Name.Missing));
+		this.objectHandler = objectHandler;
+	}
+
+	/**
+	 * Shows the damage dealt to a target above it.
+	 * @param target the object that took the damage
+	 * @param x the x coordinate of the popup
+	 * @param y the y coordinate of the popup
+	 * @param damage the amount of damage
+	 */
+	public void showDamage(GameObject target, float x, float y, int damage) {
+		for (int i = activePopups.size() - 1; i >= 0; i--) {
+			DamageNumberPopup popup = activePopups.get(i);
+			if (popup.canMerge(target)) {
+				popup.addDamage(x, y, damage);
+				return;
+			}
+		}
+
+		DamageNumberPopup popup;
+		if (activePopups.size() >= MAX_VISIBLE_POPUPS)
+			popup = activePopups.remove(0);
+		else if (!pooledPopups.isEmpty())
+			popup = pooledPopups.pop();
+		else
+			popup = new DamageNumberPopup(MERGE_WINDOW_MILLIS);
+
+		popup.reset(target, x, y, damage);
+		activePopups.add(popup);
+	}
+
+	@Override
+	public void tick() {
+		for (int i = activePopups.size() - 1; i >= 0; i--) {
+			DamageNumberPopup popup = activePopups.get(i);
+			popup.tick();
+			if (popup.isFinished())
+				pooledPopups.push(activePopups.remove(i));
+		}
+	}
+
+	@Override
+	public void render(Graphics g) {
+		objectHandler.beginWorldSpace(g);
+		for (int i = 0; i < activePopups.size(); i++)
+			activePopups.get(i).render(g);
+		objectHandler.endWorldSpace(g);
+	}
+
+	public int getVisiblePopupCount() {
+		return activePopups.size();
+	}
+
+}
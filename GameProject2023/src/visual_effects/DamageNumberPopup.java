@@ -1,55 +1,109 @@
 package visual_effects;
 
-import java.awt.Color;
 import java.awt.Graphics;
 
 import abstracts.GameObject;
-import framework.GameConstants;
-import framework.ObjectHandler;
+import framework.BitmapFont;
+import framework.DurationTracker;
+import framework.GameConstants.FontConstants;
 
 public class DamageNumberPopup extends GameObject {
 
-	private ObjectHandler objectHandler;
+	// Hits of at least this much damage are shown in red
+	private static final int CRITICAL_DAMAGE = 30;
+
+	private GameObject target;
+	private int damage;
+	private boolean critical;
 	private String text;
-	
-	private Color color;
-	private int colorAlpha = 255; 
+	private BitmapFont font;
+
+	private int colorAlpha = 255;
 	private float alphaReductionRate;
-	
-	public DamageNumberPopup(float x, float y, int damage, ObjectHandler objectHandler) {
-		super(x, y, 0, 0, null);
-		this.objectHandler = objectHandler;
-
-		if (damage >= 30) {
-			color = Color.RED;
-			text = damage + "!";
+	private DurationTracker mergeTracker;
+
+	/**
+	 * The DamageNumberPopup class shows the damage dealt to a target as a number that
+	 * slowly rises and fades away. Popups are owned and reused by the CombatTextManager,
+	 * so they are not added to the ObjectHandler themselves.
+	 *
+	 * @param mergeWindowMillis How long after the last hit further hits on the same target
+	 * 						    are added to this popup, in milliseconds.
+	 */
+	public DamageNumberPopup(long mergeWindowMillis) {
+		super(0, 0, 0, 0, null);
+		mergeTracker = new DurationTracker(mergeWindowMillis);
+
+		int fadingRate = 500;
+		alphaReductionRate = fadingRate / 255f;
+	}
+
+	/**
+	 * Prepares the popup to show a new hit, discarding what it showed before.
+	 * @param target the object that took the damage
+	 * @param x the x coordinate of the popup
+	 * @param y the y coordinate of the popup
+	 * @param damage the amount of damage
+	 */
+	public void reset(GameObject target, float x, float y, int damage) {
+		this.target = target;
+		this.damage = 0;
+		critical = false;
+		addDamage(x, y, damage);
+	}
+
+	/**
+	 * Adds another hit to the number shown by the popup and makes it fully visible again.
+	 * @param x the new x coordinate of the popup
+	 * @param y the new y coordinate of the popup
+	 * @param damage the amount of damage
+	 */
+	public void addDamage(float x, float y, int damage) {
+		this.x = x;
+		this.y = y;
+		this.damage += damage;
+		if (damage >= CRITICAL_DAMAGE)
+			critical = true;
+
+		if (critical) {
+			font = FontConstants.CRITICAL_DAMAGE_TEXT;
+			text = this.damage + "!";
 		}
 		else {
-			color = Color.WHITE;
-			text = damage + "";
+			font = FontConstants.DAMAGE_TEXT;
+			text = this.damage + "";
 		}
-		
-		int fadingRate = 500;
-		alphaReductionRate = fadingRate / 255f;
+		colorAlpha = 255;
+		mergeTracker.start();
 	}
 
 	@Override
 	public void tick() {
 		colorAlpha -= alphaReductionRate;
 		y -= 0.1f;
-		
+
 		if (colorAlpha < 0) {
 			colorAlpha = 0;
-			objectHandler.removeObjectFromLayer(this, ObjectHandler.MENU_LAYER);
+			target = null;
 		}
 	}
 
 	@Override
 	public void render(Graphics g) {
-		color = new Color(color.getRed(), color.getGreen(), color.getBlue(), colorAlpha);
-		g.setColor(color);
-		g.setFont(GameConstants.FontConstants.DAMAGE_FONT);
-		g.drawString(text, (int) x, (int) y);
+		font.drawString(g, text, (int) x, (int) y, colorAlpha);
+	}
+
+	/**
+	 * Checks if the given hit should be added to this popup instead of creating a new one.
+	 * @param target the object that took the damage
+	 * @return true if the popup shows recent damage on the same target, false otherwise
+	 */
+	public boolean canMerge(GameObject target) {
+		return this.target == target && !isFinished() && !mergeTracker.hasDurationElapsed();
+	}
+
+	public boolean isFinished() {
+		return colorAlpha <= 0;
 	}
 
 }
@@ -34,6 +34,19 @@ public class FadingTrailEffect extends GameObject {
 		this.alpha = initialAlpha;
 	}
 
+	/**
+	 * Prepares a removed trail effect to be shown again.
+	 */
+	public void reset(float x, float y, int width, int height, BufferedImage image, float initialAlpha, float fadingRate) {
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		this.image = image;
+		this.alpha = initialAlpha;
+		this.fadingRate = fadingRate;
+	}
+
 	@Override
 	public void tick() {
 		if (alpha > fadingRate) 
@@ -17,6 +17,8 @@ public class OneTimeAnimation extends GameObject {
 
 	private ObjectHandler objectHandler;
 	private Animation animation;
+	private TextureName textureName;
+	private int animationDelay;
 	private boolean finished = false;
 
 	/**
@@ -27,6 +29,8 @@ public class OneTimeAnimation extends GameObject {
 			int animationDelay, ObjectHandler objectHandler) {
 		super(x, y, width, height, new ObjectId(Category.Missing, Name.Missing));
 		this.objectHandler = objectHandler;
+		this.textureName = textureName;
+		this.animationDelay = animationDelay;
 
 		animation = new Animation(TextureLoader.getInstance().getTextures(textureName), animationDelay, true);
 	}
@@ -40,10 +44,31 @@ public class OneTimeAnimation extends GameObject {
 			int animationDelay, ObjectHandler objectHandler) {
 		super(x, y, TILE_SIZE, TILE_SIZE, new ObjectId(Category.Missing, Name.Missing));
 		this.objectHandler = objectHandler;
+		this.textureName = textureName;
+		this.animationDelay = animationDelay;
 
 		animation = new Animation(TextureLoader.getInstance().getTextures(textureName), animationDelay, true);
 	}
 
+	/**
+	 * Prepares a removed animation to be played again, reusing its Animation if it plays the same textures.
+	 */
+	public void reset(float x, float y, int width, int height, TextureName textureName, int animationDelay) {
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		finished = false;
+
+		if (textureName == this.textureName && animationDelay == this.animationDelay)
+			animation.resetAnimation();
+		else {
+			this.textureName = textureName;
+			this.animationDelay = animationDelay;
+			animation = new Animation(TextureLoader.getInstance().getTextures(textureName), animationDelay, true);
+		}
+	}
+
 	@Override
 	public void tick() {
 		if (animation.isPlayedOnce()) {
@@ -31,7 +31,8 @@ public class GameWindow extends JFrame implements MouseInputObserver {
 		else
 			setExtendedState(JFrame.MAXIMIZED_BOTH);
 		
-		setResizable(false);
+		// The game is scaled to fit the window, so it can have any size
+		setResizable(true);
 		setFocusTraversalKeysEnabled(false);
 		setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 		setSize(GameConstants.ScaleConstants.GAME_WIDTH, GameConstants.ScaleConstants.GAME_HEIGHT);
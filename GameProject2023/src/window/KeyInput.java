@@ -29,10 +29,27 @@ public class KeyInput extends KeyAdapter {
 	// Debug
 	private boolean ctrlPressed = false;
 	public boolean debugPressed = false;
+	public boolean powerSavingPressed = false;
+	public boolean profilerPressed = false;
+	public boolean telemetryLogPressed = false;
 
 	@Override
 	public void keyPressed(KeyEvent e) {
-		switch (e.getKeyCode()) {
+		pressKey(e.getKeyCode());
+	}
+
+	@Override
+	public void keyReleased(KeyEvent e) {
+		releaseKey(e.getKeyCode());
+	}
+
+	/**
+	 * Updates the key states as if the key with the given code was pressed.
+	 * Can be used to feed scripted input without a window.
+	 * @param keyCode the KeyEvent key code of the pressed key
+	 */
+	public void pressKey(int keyCode) {
+		switch (keyCode) {
 		case KeyEvent.VK_W:
 			moveUpKeyPressed = true;
 			navigateUpKeyPressed = true;
@@ -89,12 +106,34 @@ public class KeyInput extends KeyAdapter {
 				ctrlPressed = false;
 			}
 			break;
+		case KeyEvent.VK_P:
+			if (ctrlPressed) {
+				powerSavingPressed = !powerSavingPressed;
+				ctrlPressed = false;
+			}
+			break;
+		case KeyEvent.VK_O:
+			if (ctrlPressed) {
+				profilerPressed = !profilerPressed;
+				ctrlPressed = false;
+			}
+			break;
+		case KeyEvent.VK_L:
+			if (ctrlPressed) {
+				telemetryLogPressed = !telemetryLogPressed;
+				ctrlPressed = false;
+			}
+			break;
 		}
 	}
 
-	@Override
-	public void keyReleased(KeyEvent e) {
-		switch (e.getKeyCode()) {
+	/**
+	 * Updates the key states as if the key with the given code was released.
+	 * Can be used to feed scripted input without a window.
+	 * @param keyCode the KeyEvent key code of the released key
+	 */
+	public void releaseKey(int keyCode) {
+		switch (keyCode) {
 		case KeyEvent.VK_W:
 			moveUpKeyPressed = false;
 			navigateUpKeyPressed = false;
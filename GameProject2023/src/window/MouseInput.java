@@ -13,6 +13,10 @@ public class MouseInput implements MouseListener, MouseMotionListener {
 	private boolean attackButtonPressed = false;
 	private int x, y;
 	
+	// Where the game's back buffer is drawn on the window, used to convert window coordinates to game coordinates
+	private volatile int viewportX = 0, viewportY = 0;
+	private volatile float viewportScale = 1f;
+	
     public void registerObserver(MouseInputObserver observer) {
         observers.add(observer);
     }
@@ -38,6 +42,7 @@ public class MouseInput implements MouseListener, MouseMotionListener {
 
 	@Override
 	public void mousePressed(MouseEvent e) {
+		updatePosition(e);
 		notifyPressObservers(e);
 		
 		if (e.getButton() == MouseEvent.BUTTON1)
@@ -54,8 +59,27 @@ public class MouseInput implements MouseListener, MouseMotionListener {
 	
 	@Override
 	public void mouseMoved(MouseEvent e) {
-		x = e.getX();
-		y = e.getY();
+		updatePosition(e);
+	}
+	
+	private void updatePosition(MouseEvent e) {
+		// The viewport has no size while the window is minimized
+		if (viewportScale <= 0)
+			return;
+		x = (int) ((e.getX() - viewportX) / viewportScale);
+		y = (int) ((e.getY() - viewportY) / viewportScale);
+	}
+	
+	/**
+	 * Sets where the game is drawn on the window, so that the mouse position is reported in game coordinates.
+	 * @param viewportX the x coordinate of the game's top left corner on the window
+	 * @param viewportY the y coordinate of the game's top left corner on the window
+	 * @param viewportScale how much the game is scaled up on the window
+	 */
+	public void setViewport(int viewportX, int viewportY, float viewportScale) {
+		this.viewportX = viewportX;
+		this.viewportY = viewportY;
+		this.viewportScale = viewportScale;
 	}
 	
 	@Override
@@ -70,6 +94,19 @@ public class MouseInput implements MouseListener, MouseMotionListener {
 	@Override
 	public void mouseExited(MouseEvent e) {}
 	
+	/**
+	 * Sets the mouse state directly, without notifying the observers.
+	 * Can be used to feed scripted input without a window.
+	 * @param attackButtonPressed whether the attack button is held down
+	 * @param x the x coordinate of the mouse
+	 * @param y the y coordinate of the mouse
+	 */
+	public void setState(boolean attackButtonPressed, int x, int y) {
+		this.attackButtonPressed = attackButtonPressed;
+		this.x = x;
+		this.y = y;
+	}
+	
 	public boolean isAttackButtonPressed() {
 		return attackButtonPressed;
 	}